@@ -0,0 +1,93 @@
+package org.orderpulse.orderpulsebackend.controller;
+
+import org.openjdk.jmh.annotations.*;
+import org.orderpulse.orderpulsebackend.dto.OrderResponse;
+import org.orderpulse.orderpulsebackend.dto.OrderSummary;
+import org.orderpulse.orderpulsebackend.entity.Order;
+import org.orderpulse.orderpulsebackend.entity.OrderItem;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks OrderController.mapToResponse over large lists:
+ * - summaries: what the listing endpoints and the export map per page
+ * - orders: full entities with line items, as returned by batch creation
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class OrderResponseMappingBenchmark {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    @Param({"500", "5000"})
+    private int size;
+
+    private final OrderController controller = new OrderController(null, null, null);
+
+    private List<OrderSummary> summaries;
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        // Fixed seed so every run and every commit maps the same data
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        summaries = new ArrayList<>(size);
+        orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long id = i + 1L;
+            String customer = "Customer " + random.nextInt(1000);
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(100_000), 2);
+            OrderStatus status = STATUSES[random.nextInt(STATUSES.length)];
+            LocalDateTime createdAt = start.plusMinutes(i);
+
+            summaries.add(new OrderSummary(id, customer, amount, "Leave at the door", status,
+                createdAt, createdAt, 1L));
+
+            Order order = Order.builder()
+                .id(id)
+                .customerName(customer)
+                .totalAmount(amount)
+                .notes("Leave at the door")
+                .status(status)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .version(1L)
+                .build();
+            for (int line = 0; line < 3; line++) {
+                order.addItem(OrderItem.builder()
+                    .sku("SKU-" + random.nextInt(10_000))
+                    .productName("Product " + line)
+                    .quantity(1 + random.nextInt(5))
+                    .unitPrice(BigDecimal.valueOf(random.nextInt(10_000), 2))
+                    .build());
+            }
+            orders.add(order);
+        }
+    }
+
+    @Benchmark
+    public List<OrderResponse> summaries() {
+        return summaries.stream()
+            .map(controller::mapToResponse)
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<OrderResponse> orders() {
+        return orders.stream()
+            .map(controller::mapToResponse)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,103 @@
+package org.orderpulse.orderpulsebackend.diagnostics;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Compares platform and virtual threads on the shape of the order request path: many
+ * concurrent requests that each spend most of their time blocked (a JDBC or Kafka round
+ * trip, simulated by parking), optionally while holding a per-client guard as
+ * RedisRateLimiter does around its Redis call.
+ *
+ * Each invocation runs one burst of {@code requests} requests and waits for all of them.
+ * - platform: a fixed pool of 200 threads (Tomcat's default server.tomcat.threads.max)
+ * - virtual: one virtual thread per request (spring.threads.virtual.enabled)
+ * - guard none / lock / monitor: no guard, a ReentrantLock, or synchronized; with virtual
+ *   threads, blocking inside synchronized pins the carrier (visible as a collapse of the
+ *   virtual/monitor score, and reported by VirtualThreadPinningMonitor in the application)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class VirtualThreadBenchmark {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final int CLIENTS = 64;
+    private static final long BLOCKING_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"none", "lock", "monitor"})
+    private String guard;
+
+    @Param({"2000"})
+    private int requests;
+
+    private ExecutorService executor;
+    private final ReentrantLock[] locks = new ReentrantLock[CLIENTS];
+    private final Object[] monitors = new Object[CLIENTS];
+
+    @Setup
+    public void setUp() {
+        executor = "virtual".equals(threads)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+        for (int i = 0; i < CLIENTS; i++) {
+            locks[i] = new ReentrantLock();
+            monitors[i] = new Object();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        List<Future<?>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            int client = i % CLIENTS;
+            futures.add(executor.submit(() -> handle(client)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return futures.size();
+    }
+
+    private void handle(int client) {
+        // Block briefly while holding the guard (RedisRateLimiter's Redis call), then block outside it
+        switch (guard) {
+            case "lock" -> {
+                ReentrantLock lock = locks[client];
+                lock.lock();
+                try {
+                    LockSupport.parkNanos(BLOCKING_NANOS / 10);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            case "monitor" -> {
+                synchronized (monitors[client]) {
+                    LockSupport.parkNanos(BLOCKING_NANOS / 10);
+                }
+            }
+            default -> {
+            }
+        }
+        LockSupport.parkNanos(BLOCKING_NANOS);
+    }
+}
@@ -0,0 +1,77 @@
+package org.orderpulse.orderpulsebackend.interceptor;
+
+import org.openjdk.jmh.annotations.*;
+import org.orderpulse.orderpulsebackend.config.RateLimitConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmarks RateLimitInterceptor.preHandle with the in-memory LocalRateLimiter,
+ * called from 8 threads at once:
+ * - sharedClient: every thread is the same client, so all contend on one bucket
+ * - distinctClients: each thread is its own client, measuring lookup and bucket overhead
+ *
+ * Capacities are set high enough that no request is ever rejected, so only the
+ * bookkeeping cost is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Threads(8)
+public class RateLimitInterceptorBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Limiter {
+
+        final AtomicInteger clients = new AtomicInteger();
+        RateLimitInterceptor interceptor;
+
+        @Setup
+        public void setUp() {
+            RateLimitConfig config = new RateLimitConfig();
+            ReflectionTestUtils.setField(config, "readCapacity", 1_000_000_000L);
+            ReflectionTestUtils.setField(config, "readPeriod", Duration.ofSeconds(1));
+            ReflectionTestUtils.setField(config, "writeCapacity", 1_000_000_000L);
+            ReflectionTestUtils.setField(config, "writePeriod", Duration.ofSeconds(1));
+            ReflectionTestUtils.setField(config, "maxClients", 100_000L);
+            ReflectionTestUtils.setField(config, "idleExpiry", Duration.ofMinutes(10));
+            interceptor = new RateLimitInterceptor(new LocalRateLimiter(config));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Exchange {
+
+        MockHttpServletRequest sharedRequest;
+        MockHttpServletRequest ownRequest;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp(Limiter limiter) {
+            sharedRequest = new MockHttpServletRequest("GET", "/api/orders/1");
+            sharedRequest.setRemoteAddr("10.0.0.1");
+            ownRequest = new MockHttpServletRequest("GET", "/api/orders/1");
+            ownRequest.setRemoteAddr("10.1.0." + limiter.clients.incrementAndGet());
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public boolean sharedClient(Limiter limiter, Exchange exchange) {
+        exchange.response.reset();
+        return limiter.interceptor.preHandle(exchange.sharedRequest, exchange.response, null);
+    }
+
+    @Benchmark
+    public boolean distinctClients(Limiter limiter, Exchange exchange) {
+        exchange.response.reset();
+        return limiter.interceptor.preHandle(exchange.ownRequest, exchange.response, null);
+    }
+}
@@ -0,0 +1,75 @@
+package org.orderpulse.orderpulsebackend.kafka;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.*;
+import org.orderpulse.orderpulsebackend.config.KafkaTopicConfig;
+import org.orderpulse.orderpulsebackend.entity.Order;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.orderpulse.orderpulsebackend.event.OrderEventType;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the binary order event format on both sides of Kafka:
+ * - serialize: what OrderEventOutbox does for every recorded event
+ * - deserialize: the ErrorHandlingDeserializer-wrapped OrderEventDeserializer that
+ *   KafkaConsumerConfig installs on every listener
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class OrderEventCodecBenchmark {
+
+    private final OrderEventSerializer serializer = new OrderEventSerializer();
+    private final ErrorHandlingDeserializer<OrderEvent> deserializer =
+        new ErrorHandlingDeserializer<>(new OrderEventDeserializer());
+    private final RecordHeaders headers = new RecordHeaders();
+
+    private Order order;
+    private OrderEvent event;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        order = new Order();
+        order.setId(123_456L);
+        order.setVersion(7L);
+        order.setStatus(OrderStatus.PREPARING);
+        order.setCustomerName("Benchmark Customer");
+        order.setTotalAmount(new BigDecimal("249.90"));
+        event = OrderEvent.of(order, OrderEventType.UPDATE, Instant.ofEpochMilli(1_700_000_000_000L));
+        payload = serializer.serialize(KafkaTopicConfig.ORDER_TOPIC, event);
+    }
+
+    /**
+     * Builds the event from an order and encodes it, as OrderEventOutbox does per event.
+     */
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(KafkaTopicConfig.ORDER_TOPIC,
+            OrderEvent.of(order, OrderEventType.UPDATE, Instant.ofEpochMilli(1_700_000_000_000L)));
+    }
+
+    /**
+     * Encodes a prebuilt event.
+     */
+    @Benchmark
+    public byte[] serializeOnly() {
+        return serializer.serialize(KafkaTopicConfig.ORDER_TOPIC, event);
+    }
+
+    /**
+     * Decodes a record value through the consumer's deserializer chain.
+     */
+    @Benchmark
+    public OrderEvent deserialize() {
+        return deserializer.deserialize(KafkaTopicConfig.ORDER_TOPIC, headers, payload);
+    }
+}
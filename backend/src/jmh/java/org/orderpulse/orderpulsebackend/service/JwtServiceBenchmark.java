@@ -0,0 +1,52 @@
+package org.orderpulse.orderpulsebackend.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JwtService token generation and validation.
+ * verify is the per-request cost paid by JwtAuthenticationFilter on a principal cache miss.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    // Fixed 256-bit key, base64 encoded as in jwt.secret-key
+    private static final String SECRET_KEY = "b3JkZXJwdWxzZS1iZW5jaG1hcmstc2lnbmluZy1rZXktMDEyMzQ1Njc4OQ==";
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET_KEY, TimeUnit.HOURS.toMillis(1));
+        userDetails = User.withUsername("benchmark.user")
+            .password("unused")
+            .roles("USER")
+            .build();
+        token = jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public JwtService.VerifiedToken verify() {
+        return jwtService.verify(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, userDetails);
+    }
+}
@@ -3,6 +3,7 @@ package org.orderpulse.orderpulsebackend;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main application class for the OrderPulse Backend service.
@@ -14,9 +15,12 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  *
  * @EnableJpaAuditing: Enables JPA Auditing which allows automatic population of
  * createdAt and updatedAt fields in our entities
+ *
+ * @EnableScheduling: Enables scheduled background jobs such as the outbox relay
  */
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class OrderPulseBackendApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,162 @@
+package org.orderpulse.orderpulsebackend.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Two-tier cache: a bounded in-process near cache in front of a shared remote cache.
+ *
+ * Reads hit the near cache first and fall back to the remote cache, populating the
+ * near cache on the way back. Writes and evictions go to both tiers and are announced
+ * through the invalidation publisher, so other instances drop their near copies.
+ * Near entries also expire on their own, which bounds staleness if an invalidation
+ * message is lost.
+ *
+ * Invalidation messages carry this instance's ID, and {@link #onInvalidation} ignores the
+ * instance's own messages, so a put is not undone by its own broadcast.
+ */
+public class TwoLevelCache implements Cache {
+
+    /**
+     * Invalidation message meaning "clear every entry".
+     */
+    public static final String CLEAR_ALL = "*";
+
+    /**
+     * Separates the sending instance's ID from the key in an invalidation message.
+     */
+    private static final char SEPARATOR = ' ';
+
+    private final CaffeineCache nearCache;
+    private final Cache remoteCache;
+    private final Consumer<String> invalidationPublisher;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * @param nearCache Bounded in-process cache; its name is used as this cache's name
+     * @param remoteCache Shared cache consulted on near-cache misses
+     * @param invalidationPublisher Sends an invalidation message to all instances; each one
+     *                              passes it to {@link #onInvalidation}
+     */
+    public TwoLevelCache(CaffeineCache nearCache, Cache remoteCache, Consumer<String> invalidationPublisher) {
+        this.nearCache = nearCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return nearCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    /**
+     * @return The in-process tier, exposed for metrics binding
+     */
+    public CaffeineCache getNearCache() {
+        return nearCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = nearCache.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = remoteCache.get(key);
+        if (value != null && value.get() != null) {
+            nearCache.put(key, value.get());
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = nearCache.get(key, type);
+        if (value != null) {
+            return value;
+        }
+        value = remoteCache.get(key, type);
+        if (value != null) {
+            nearCache.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // Caffeine runs at most one load per key at a time, so concurrent misses on this
+        // instance share one remote lookup and at most one valueLoader call. The remote cache
+        // reports loader failures as ValueRetrievalException, which passes through unwrapped.
+        return (T) nearCache.getNativeCache().get(key, k -> remoteCache.get(k, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        nearCache.put(key, value);
+        publish(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        nearCache.evict(key);
+        publish(key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        nearCache.clear();
+        publish(CLEAR_ALL);
+    }
+
+    /**
+     * Applies an invalidation message from the publisher to the near cache, unless this
+     * instance sent it (its own tiers were already updated).
+     *
+     * @param message The received message
+     * @param keyParser Converts the key's string form back into a cache key
+     */
+    public void onInvalidation(String message, Function<String, Object> keyParser) {
+        int separator = message.indexOf(SEPARATOR);
+        if (separator < 0 || message.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+        String key = message.substring(separator + 1);
+        if (CLEAR_ALL.equals(key)) {
+            clearLocal();
+        } else {
+            evictLocal(keyParser.apply(key));
+        }
+    }
+
+    /**
+     * Drops a key from the near cache only, in response to another instance's invalidation.
+     */
+    public void evictLocal(Object key) {
+        nearCache.evict(key);
+    }
+
+    /**
+     * Clears the near cache only, in response to another instance's invalidation.
+     */
+    public void clearLocal() {
+        nearCache.clear();
+    }
+
+    private void publish(Object key) {
+        invalidationPublisher.accept(instanceId + SEPARATOR + key);
+    }
+}
@@ -0,0 +1,161 @@
+package org.orderpulse.orderpulsebackend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.orderpulse.orderpulsebackend.cache.TwoLevelCache;
+import org.orderpulse.orderpulsebackend.entity.Order;
+import org.orderpulse.orderpulsebackend.security.PrincipalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration class for order caching.
+ * Backs the read-through cache in front of OrderServiceImpl.getOrderById.
+ *
+ * The orders cache has two tiers (see TwoLevelCache):
+ * - near: bounded, short-lived in-process Caffeine cache on every instance
+ * - remote: the shared tier, selected by orderpulse.cache.mode
+ *
+ * Modes (orderpulse.cache.mode):
+ * - redis: shared Redis cache, near caches invalidated cluster-wide via Redis pub/sub
+ * - local: in-process map as the shared tier, a stand-in for tests and local development
+ *
+ * The cache manager is transaction-aware, so evictions issued inside a write
+ * transaction take effect only after it commits.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Name of the cache holding Order entities keyed by order ID.
+     */
+    public static final String ORDERS_CACHE = "orders";
+
+    /**
+     * Redis pub/sub channel carrying evicted order IDs between instances.
+     */
+    public static final String NEAR_CACHE_INVALIDATION_CHANNEL = "orderpulse:orders:near-cache-invalidation";
+
+    @Value("${orderpulse.cache.near.maximum-size:10000}")
+    private long nearCacheMaximumSize;
+
+    @Value("${orderpulse.cache.near.ttl:5s}")
+    private Duration nearCacheTtl;
+
+    /**
+     * Creates the orders cache with a Redis remote tier storing orders as JSON with a bounded TTL.
+     * Evictions are published so other instances drop their near copies.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "orderpulse.cache.mode", havingValue = "redis", matchIfMissing = true)
+    public TwoLevelCache redisOrdersCache(RedisConnectionFactory connectionFactory,
+                                          StringRedisTemplate redisTemplate,
+                                          ObjectMapper objectMapper,
+                                          @Value("${orderpulse.cache.orders.ttl:10m}") Duration ordersTtl) {
+        RedisCacheConfiguration ordersConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ordersTtl)
+                .disableCachingNullValues()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, Order.class)));
+
+        RedisCacheManager remoteCacheManager = RedisCacheManager.builder(connectionFactory)
+                .withCacheConfiguration(ORDERS_CACHE, ordersConfig)
+                .build();
+        remoteCacheManager.initializeCaches();
+
+        return new TwoLevelCache(nearCache(), remoteCacheManager.getCache(ORDERS_CACHE),
+                message -> redisTemplate.convertAndSend(NEAR_CACHE_INVALIDATION_CHANNEL, message));
+    }
+
+    /**
+     * Subscribes to near-cache invalidations published by other instances.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "orderpulse.cache.mode", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer nearCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                       TwoLevelCache ordersCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        // Orders cache keys are order IDs
+        container.addMessageListener((message, pattern) -> ordersCache.onInvalidation(
+                new String(message.getBody(), StandardCharsets.UTF_8), Long::valueOf),
+                new ChannelTopic(NEAR_CACHE_INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    /**
+     * Subscribes to principal cache invalidations published by UserCacheInvalidationListener
+     * on any instance, so a changed user's cached tokens are dropped cluster-wide.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "orderpulse.cache.mode", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer principalCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                           PrincipalCache principalCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> principalCache.invalidateAll(),
+                new ChannelTopic(PrincipalCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    /**
+     * Creates the orders cache with an in-process map as the shared tier, used instead of Redis in local mode.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "orderpulse.cache.mode", havingValue = "local")
+    public TwoLevelCache localOrdersCache() {
+        return new TwoLevelCache(nearCache(), new ConcurrentMapCache(ORDERS_CACHE, false), message -> { });
+    }
+
+    /**
+     * Exposes the orders cache through a transaction-aware cache manager.
+     */
+    @Bean
+    public CacheManager cacheManager(TwoLevelCache ordersCache) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(ordersCache));
+        cacheManager.initializeCaches();
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    /**
+     * Publishes near-cache hit, miss, eviction and size metrics (cache.gets, cache.evictions, ...)
+     * through Actuator for two-level caches.
+     */
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(
+                cache.getNearCache().getNativeCache(), cache.getName(), tags);
+    }
+
+    private CaffeineCache nearCache() {
+        return new CaffeineCache(ORDERS_CACHE, Caffeine.newBuilder()
+                .maximumSize(nearCacheMaximumSize)
+                .expireAfterWrite(nearCacheTtl)
+                .recordStats()
+                .build());
+    }
+}
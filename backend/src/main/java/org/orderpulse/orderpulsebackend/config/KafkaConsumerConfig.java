@@ -1,22 +1,53 @@
 package org.orderpulse.orderpulsebackend.config;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.orderpulse.orderpulsebackend.kafka.OrderEventDeserializer;
+import org.orderpulse.orderpulsebackend.kafka.OrderEventSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Configuration class for Kafka consumer settings.
  * Sets up the consumer factory and listener container factory for processing order events.
+ *
+ * Parallelism is two-level:
+ * - orderpulse.kafka.consumer.concurrency listener threads, each owning a subset of partitions
+ * - a key-ordered worker pool (KeyOrderedExecutor) that processes records off the poll thread
+ *
+ * Offsets are acknowledged manually once a record has been processed. Acks may arrive
+ * out of order across lanes, so the container defers each commit until all earlier
+ * offsets of the partition are acknowledged (asyncAcks).
+ *
+ * Records that cannot be deserialized or processed are published to the dead-letter topic
+ * (KafkaTopicConfig.ORDER_DLT_TOPIC) before their offset is committed, so no event is
+ * dropped silently. Batch listener failures are retried orderpulse.kafka.consumer.retry.attempts
+ * times first.
+ *
+ * With spring.threads.virtual.enabled the order listener containers run their consumer
+ * threads on virtual threads (the worker lanes follow the same switch).
  */
 @Configuration
 public class KafkaConsumerConfig {
@@ -27,8 +58,28 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${orderpulse.kafka.consumer.concurrency:3}")
+    private int concurrency;
+
+    @Value("${orderpulse.kafka.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${orderpulse.websocket.consumer-group-prefix:orderpulse-push}")
+    private String pushGroupPrefix;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${orderpulse.kafka.consumer.retry.attempts:2}")
+    private long retryAttempts;
+
+    @Value("${orderpulse.kafka.consumer.retry.backoff-ms:500}")
+    private long retryBackoffMs;
+
     /**
-     * Configures the consumer factory with appropriate settings for JSON deserialization.
+     * Configures the consumer factory for the binary order event format.
+     * The deserializer is wrapped in an ErrorHandlingDeserializer, so a malformed record is
+     * handed to the container's error handler instead of failing every poll.
      */
     @Bean
     public ConsumerFactory<String, OrderEvent> orderConsumerFactory() {
@@ -36,29 +87,124 @@ public class KafkaConsumerConfig {
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        
-        JsonDeserializer<OrderEvent> deserializer = new JsonDeserializer<>(OrderEvent.class);
-        deserializer.setRemoveTypeHeaders(false);
-        deserializer.addTrustedPackages("*");
-        deserializer.setUseTypeMapperForKey(true);
-        
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
         return new DefaultKafkaConsumerFactory<>(
             props,
             new StringDeserializer(),
-            deserializer
+            new ErrorHandlingDeserializer<>(new OrderEventDeserializer())
         );
     }
 
+    /**
+     * Publishes failed order events to the dead-letter topic, keeping their partition.
+     * Processed events are written with OrderEventSerializer; records that failed to
+     * deserialize are forwarded as their original bytes through the application's byte[]
+     * template. Sending blocks until the broker acknowledges, so a record is only committed
+     * once its dead letter is stored.
+     *
+     * @param producerFactory The application's producer factory, whose settings the event template reuses
+     * @param byteTemplate The application's byte[] template
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer orderEventDeadLetterRecoverer(ProducerFactory<String, byte[]> producerFactory,
+                                                                       KafkaTemplate<String, byte[]> byteTemplate) {
+        KafkaTemplate<String, OrderEvent> eventTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+            producerFactory.getConfigurationProperties(),
+            new StringSerializer(),
+            new OrderEventSerializer()
+        ));
+
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(OrderEvent.class, eventTemplate);
+        templates.put(byte[].class, byteTemplate);
+        return new DeadLetterPublishingRecoverer(templates,
+            (record, ex) -> new TopicPartition(KafkaTopicConfig.ORDER_DLT_TOPIC, record.partition()));
+    }
+
     /**
      * Creates a concurrent kafka listener container factory for processing order events.
+     * Runs one consumer thread per configured concurrency level; threads beyond the
+     * topic's partition count stay idle. Records that fail to deserialize go straight to
+     * the dead-letter topic; processing failures are handled by OrderConsumerService, since
+     * processing happens off the listener thread.
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, OrderEvent> orderKafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, OrderEvent> orderKafkaListenerContainerFactory(
+            DeadLetterPublishingRecoverer orderEventDeadLetterRecoverer) {
         ConcurrentKafkaListenerContainerFactory<String, OrderEvent> factory =
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(orderConsumerFactory());
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(orderEventDeadLetterRecoverer, new FixedBackOff(0, 0)));
+        applyListenerTaskExecutor(factory, "order-listener-");
+        return factory;
+    }
+
+    /**
+     * Creates a listener container factory that delivers each poll as one batch.
+     * Offsets are committed once per batch, after the listener returns.
+     * A failing batch is redelivered after orderpulse.kafka.consumer.retry.backoff-ms, up to
+     * orderpulse.kafka.consumer.retry.attempts times, then its records go to the dead-letter topic.
+     * Used when orderpulse.kafka.consumer.batch-listener is enabled.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, OrderEvent> orderBatchKafkaListenerContainerFactory(
+            DeadLetterPublishingRecoverer orderEventDeadLetterRecoverer) {
+        ConcurrentKafkaListenerContainerFactory<String, OrderEvent> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(orderConsumerFactory());
+        factory.setConcurrency(concurrency);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(orderEventDeadLetterRecoverer,
+            new FixedBackOff(retryBackoffMs, retryAttempts)));
+        applyListenerTaskExecutor(factory, "order-batch-listener-");
+        return factory;
+    }
+
+    /**
+     * Runs the factory's consumer threads on virtual threads when they are enabled;
+     * otherwise the container keeps its default platform threads.
+     */
+    private void applyListenerTaskExecutor(ConcurrentKafkaListenerContainerFactory<?, ?> factory, String threadNamePrefix) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
+    }
+
+    /**
+     * Creates the listener container factory for the live channels (LiveOrderEventListener).
+     * Each node joins a consumer group of its own, named after orderpulse.websocket.consumer-group-prefix
+     * plus a random suffix, so every node receives every event. Consumption starts at the latest
+     * offset and nothing is committed: only changes made while the node is running are pushed.
+     * The consumer factory is not a bean, leaving orderConsumerFactory the only one in the context.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, OrderEvent> orderPushKafkaListenerContainerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, pushGroupPrefix + "-" + UUID.randomUUID());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+        ConcurrentKafkaListenerContainerFactory<String, OrderEvent> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(
+            props,
+            new StringDeserializer(),
+            new ErrorHandlingDeserializer<>(new OrderEventDeserializer())
+        ));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         return factory;
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package org.orderpulse.orderpulsebackend.config;
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
@@ -25,18 +26,46 @@ public class KafkaTopicConfig {
      */
     public static final String ORDER_TOPIC = "order-events";
 
+    /**
+     * Dead-letter topic for order events that could not be deserialized or processed.
+     * Records keep their partition, so it has as many partitions as the order topic.
+     */
+    public static final String ORDER_DLT_TOPIC = "order-events-dlt";
+
+    @Value("${orderpulse.kafka.topic.partitions:3}")
+    private int partitions;
+
+    @Value("${orderpulse.kafka.topic.replicas:1}")
+    private int replicas;
+
     /**
      * Creates a Kafka topic for order events.
+     * The partition count caps consumer parallelism across the group, so it should be
+     * at least the total listener concurrency of all instances. Kafka only allows
+     * increasing it, and doing so remaps keys to partitions.
      *
      * @return NewTopic - Configured topic with:
-     * - 3 partitions for parallel processing
-     * - 1 replica for development (increase for production)
+     * - orderpulse.kafka.topic.partitions partitions for parallel processing (default 3)
+     * - orderpulse.kafka.topic.replicas replicas (1 for dev, more for prod)
      */
     @Bean
     public NewTopic orderTopic() {
         return TopicBuilder.name(ORDER_TOPIC)
-                .partitions(3)  // Number of partitions for scalability
-                .replicas(1)    // Number of replicas (1 for dev, more for prod)
+                .partitions(partitions)  // Number of partitions for scalability
+                .replicas(replicas)      // Number of replicas (1 for dev, more for prod)
+                .build();
+    }
+
+    /**
+     * Creates the dead-letter topic for order events, partitioned like the order topic.
+     *
+     * @return NewTopic for failed order events
+     */
+    @Bean
+    public NewTopic orderDeadLetterTopic() {
+        return TopicBuilder.name(ORDER_DLT_TOPIC)
+                .partitions(partitions)
+                .replicas(replicas)
                 .build();
     }
-}
\ No newline at end of file
+}
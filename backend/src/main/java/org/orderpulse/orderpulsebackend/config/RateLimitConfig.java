@@ -3,6 +3,8 @@ package org.orderpulse.orderpulsebackend.config;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.Refill;
+import org.orderpulse.orderpulsebackend.interceptor.RateLimitGroup;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
@@ -10,18 +12,77 @@ import java.time.Duration;
 /**
  * Configuration class for rate limiting using the token bucket algorithm.
  * Uses Bucket4j library to implement rate limiting functionality.
+ *
+ * Limits apply per client (authenticated principal, or remote IP for anonymous callers)
+ * and per endpoint group:
+ * - orderpulse.rate-limit.read.*: GET/HEAD/OPTIONS requests (default 300 per minute)
+ * - orderpulse.rate-limit.write.*: state-changing requests (default 60 per minute)
  */
 @Configuration
 public class RateLimitConfig {
 
+    @Value("${orderpulse.rate-limit.read.capacity:300}")
+    private long readCapacity;
+
+    @Value("${orderpulse.rate-limit.read.period:1m}")
+    private Duration readPeriod;
+
+    @Value("${orderpulse.rate-limit.write.capacity:60}")
+    private long writeCapacity;
+
+    @Value("${orderpulse.rate-limit.write.period:1m}")
+    private Duration writePeriod;
+
+    @Value("${orderpulse.rate-limit.max-clients:100000}")
+    private long maxClients;
+
+    @Value("${orderpulse.rate-limit.idle-expiry:10m}")
+    private Duration idleExpiry;
+
     /**
-     * Creates a new rate limit bucket with the following constraints:
-     * - 100 requests per minute
+     * Creates a new rate limit bucket for one client and endpoint group:
+     * - capacity requests per period
      * - Greedy refill strategy (tokens are added as soon as possible)
-     * @return A new Bucket instance configured with the rate limit
+     * @param group The endpoint group the bucket limits
+     * @return A new Bucket instance configured with the group's rate limit
+     */
+    public Bucket createNewBucket(RateLimitGroup group) {
+        return Bucket.builder().addLimit(bandwidth(group)).build();
+    }
+
+    /**
+     * @param group The endpoint group
+     * @return Number of requests allowed per period
+     */
+    public long getCapacity(RateLimitGroup group) {
+        return group == RateLimitGroup.READ ? readCapacity : writeCapacity;
+    }
+
+    /**
+     * @param group The endpoint group
+     * @return Period over which the capacity refills
+     */
+    public Duration getPeriod(RateLimitGroup group) {
+        return group == RateLimitGroup.READ ? readPeriod : writePeriod;
+    }
+
+    /**
+     * @return Maximum number of client buckets kept in memory
      */
-    public Bucket createNewBucket() {
-        Bandwidth limit = Bandwidth.classic(100, Refill.greedy(100, Duration.ofMinutes(1)));
-        return Bucket.builder().addLimit(limit).build();
+    public long getMaxClients() {
+        return maxClients;
+    }
+
+    /**
+     * @return How long an unused client bucket is kept; should be at least the longest refill
+     *         period, since a bucket idle for a full period is full again anyway
+     */
+    public Duration getIdleExpiry() {
+        return idleExpiry;
+    }
+
+    private Bandwidth bandwidth(RateLimitGroup group) {
+        long capacity = getCapacity(group);
+        return Bandwidth.classic(capacity, Refill.greedy(capacity, getPeriod(group)));
     }
-}
\ No newline at end of file
+}
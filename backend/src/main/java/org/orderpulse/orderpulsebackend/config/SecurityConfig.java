@@ -1,9 +1,10 @@
 package org.orderpulse.orderpulsebackend.config;
 
 import lombok.RequiredArgsConstructor;
-import org.orderpulse.orderpulsebackend.filter.JwtAuthenticationFilter;
+import org.orderpulse.orderpulsebackend.security.JwtAuthenticationFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -34,7 +35,11 @@ public class SecurityConfig {
      * - Disables CSRF protection for stateless API
      * - Enables CORS
      * - Uses stateless session management
-     * - Configures public endpoints (/api/auth/**, Swagger UI)
+     * - Configures public endpoints (/api/auth/**, Swagger UI, the WebSocket handshake at /ws,
+     *   which is authenticated on STOMP CONNECT instead)
+     * - Leaves the health and Prometheus scrape endpoints open for probes and scrapers;
+     *   the other actuator endpoints require authentication
+     * - Restricts rebuilding the search index to administrators
      * - Requires authentication for all other endpoints
      * - Adds JWT authentication filter
      */
@@ -48,6 +53,9 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                .requestMatchers(WebSocketConfig.ENDPOINT + "/**").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/orders/search/reindex").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .authenticationProvider(authenticationProvider())
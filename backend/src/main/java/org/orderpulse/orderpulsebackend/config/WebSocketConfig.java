@@ -0,0 +1,56 @@
+package org.orderpulse.orderpulsebackend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.orderpulse.orderpulsebackend.websocket.StompAuthChannelInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * WebSocket configuration for real-time order updates over STOMP.
+ *
+ * Clients connect to /ws, authenticate with an "Authorization: Bearer <token>" header on the
+ * STOMP CONNECT frame, and subscribe to:
+ * - /topic/orders/{orderId} for changes to one order
+ * - /topic/customers/{customerName} for changes to any order of a customer
+ *
+ * Every node runs its own in-memory broker and receives all order events (OrderStatusPushService),
+ * so a client can connect to any node behind the load balancer.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    public static final String ENDPOINT = "/ws";
+    public static final String ORDER_DESTINATION_PREFIX = "/topic/orders/";
+    public static final String CUSTOMER_DESTINATION_PREFIX = "/topic/customers/";
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Value("${orderpulse.websocket.allowed-origins:*}")
+    private String[] allowedOrigins;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint(ENDPOINT).setAllowedOriginPatterns(allowedOrigins);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic");
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    /**
+     * Authenticates CONNECT frames and restricts SUBSCRIBE destinations.
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+}
@@ -1,21 +1,40 @@
 package org.orderpulse.orderpulsebackend.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.orderpulse.orderpulsebackend.dto.BatchOrderRequest;
+import org.orderpulse.orderpulsebackend.dto.CursorPage;
+import org.orderpulse.orderpulsebackend.dto.OrderCursor;
+import org.orderpulse.orderpulsebackend.dto.OrderItemRequest;
+import org.orderpulse.orderpulsebackend.dto.OrderItemResponse;
 import org.orderpulse.orderpulsebackend.dto.OrderRequest;
 import org.orderpulse.orderpulsebackend.dto.OrderResponse;
 import org.orderpulse.orderpulsebackend.dto.OrderStatusUpdateRequest;
+import org.orderpulse.orderpulsebackend.dto.OrderSummary;
 import org.orderpulse.orderpulsebackend.entity.Order;
+import org.orderpulse.orderpulsebackend.entity.OrderItem;
 import org.orderpulse.orderpulsebackend.entity.OrderStatus;
 import org.orderpulse.orderpulsebackend.service.OrderService;
+import org.orderpulse.orderpulsebackend.sse.OrderStreamService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,10 +44,19 @@ import java.util.stream.Collectors;
  */
 @RestController
 @RequestMapping("/api/orders")
+@RequiredArgsConstructor
 @Tag(name = "Order Management", description = "APIs for managing orders")
 public class OrderController {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final OrderService orderService;
+    private final OrderStreamService orderStreamService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${orderpulse.export.timeout:30m}")
+    private Duration exportTimeout;
 
     /**
      * Creates a new order.
@@ -46,13 +74,34 @@ public class OrderController {
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public OrderResponse createOrder(@Valid @RequestBody OrderRequest orderRequest) {
-        Order order = new Order();
-        order.setCustomerName(orderRequest.getCustomerName());
-        order.setTotalAmount(orderRequest.getTotalAmount());
-        order.setDescription(orderRequest.getDescription());
+        Order savedOrder = orderService.createOrder(mapToOrder(orderRequest));
+        return mapToResponse(savedOrder);
+    }
+
+    /**
+     * Creates many orders in a single request.
+     * Orders are inserted with JDBC batching and one creation event is published per order.
+     *
+     * @param batchRequest The orders to create
+     * @return The created orders with generated IDs, in request order
+     */
+    @Operation(summary = "Create orders in bulk",
+               description = "Creates up to " + BatchOrderRequest.MAX_ORDERS + " orders in one transaction")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Orders created successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<OrderResponse> createOrders(@Valid @RequestBody BatchOrderRequest batchRequest) {
+        List<Order> orders = batchRequest.getOrders().stream()
+                .map(this::mapToOrder)
+                .collect(Collectors.toList());
 
-        Order savedOrder = orderService.createOrder(order);
-        return new ResponseEntity<>(mapToResponse(savedOrder), HttpStatus.CREATED);
+        return orderService.createOrders(orders).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -70,11 +119,12 @@ public class OrderController {
     @GetMapping("/{id}")
     public OrderResponse getOrder(@PathVariable Long id) {
         Order order = orderService.getOrderById(id);
-        return ResponseEntity.ok(mapToResponse(order));
+        return mapToResponse(order);
     }
 
     /**
      * Updates the status of an order.
+     * The response omits line items: the status change does not load them.
      * 
      * @param id The ID of the order to update
      * @param request The new status details
@@ -85,54 +135,150 @@ public class OrderController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Order status updated"),
         @ApiResponse(responseCode = "404", description = "Order not found"),
-        @ApiResponse(responseCode = "400", description = "Invalid status")
+        @ApiResponse(responseCode = "400", description = "Invalid status"),
+        @ApiResponse(responseCode = "409", description = "Status change not allowed from the current status")
     })
     @PutMapping("/{id}/status")
     public OrderResponse updateOrderStatus(
         @PathVariable Long id,
         @Valid @RequestBody OrderStatusUpdateRequest request) {
         Order updatedOrder = orderService.updateOrderStatus(id, request.getNewStatus());
-        return ResponseEntity.ok(mapToResponse(updatedOrder));
+        return mapToResponse(OrderSummary.from(updatedOrder));
     }
 
     /**
-     * Retrieves all orders for a specific customer.
+     * Retrieves one page of orders for a specific customer.
      * 
      * @param customerName The name of the customer
-     * @return List of orders for the customer
+     * @param cursor Opaque token from the previous page's nextCursor, omitted for the first page
+     * @param limit Maximum number of orders to return (capped at 500)
+     * @return Page of orders for the customer
      */
     @Operation(summary = "Get orders by customer",
-               description = "Retrieves all orders for a specific customer")
+               description = "Retrieves a customer's orders, oldest first, using cursor pagination")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Orders found")
+        @ApiResponse(responseCode = "200", description = "Orders found"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
     })
     @GetMapping("/customer/{customerName}")
-    public List<OrderResponse> getOrdersByCustomer(@PathVariable String customerName) {
-        List<Order> orders = orderService.getOrdersByCustomer(customerName);
-        List<OrderResponse> responses = orders.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+    public CursorPage<OrderResponse> getOrdersByCustomer(
+        @PathVariable String customerName,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        CursorPage<OrderSummary> page = orderService.getOrdersByCustomer(
+            customerName, OrderCursor.decode(cursor), pageSize(limit));
+        return page.map(this::mapToResponse);
     }
 
     /**
-     * Retrieves all orders with a specific status.
+     * Retrieves one page of orders with a specific status.
      * 
      * @param status The order status to filter by
-     * @return List of orders with the specified status
+     * @param cursor Opaque token from the previous page's nextCursor, omitted for the first page
+     * @param limit Maximum number of orders to return (capped at 500)
+     * @return Page of orders with the specified status
      */
     @Operation(summary = "Get orders by status",
-               description = "Retrieves all orders with a specific status")
+               description = "Retrieves orders with a specific status, oldest first, using cursor pagination")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Orders found")
+        @ApiResponse(responseCode = "200", description = "Orders found"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
     })
     @GetMapping("/status/{status}")
-    public List<OrderResponse> getOrdersByStatus(@PathVariable OrderStatus status) {
-        List<Order> orders = orderService.getOrdersByStatus(status);
-        List<OrderResponse> responses = orders.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+    public CursorPage<OrderResponse> getOrdersByStatus(
+        @PathVariable OrderStatus status,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        CursorPage<OrderSummary> page = orderService.getOrdersByStatus(
+            status, OrderCursor.decode(cursor), pageSize(limit));
+        return page.map(this::mapToResponse);
+    }
+
+    /**
+     * Retrieves one page of orders containing a product.
+     *
+     * @param sku The product SKU to filter by
+     * @param cursor Opaque token from the previous page's nextCursor, omitted for the first page
+     * @param limit Maximum number of orders to return (capped at 500)
+     * @return Page of orders with at least one line item for the SKU
+     */
+    @Operation(summary = "Get orders by SKU",
+               description = "Retrieves orders containing a product, oldest first, using cursor pagination")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Orders found"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/sku/{sku}")
+    public CursorPage<OrderResponse> getOrdersBySku(
+        @PathVariable String sku,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        CursorPage<OrderSummary> page = orderService.getOrdersBySku(
+            sku, OrderCursor.decode(cursor), pageSize(limit));
+        return page.map(this::mapToResponse);
+    }
+
+    /**
+     * Exports orders as newline-delimited JSON (one OrderResponse per line).
+     * Rows are streamed from a database cursor straight to the response, so memory
+     * use stays constant regardless of how many orders are exported.
+     * The export runs asynchronously with its own timeout (orderpulse.export.timeout),
+     * leaving the default async request timeout unchanged.
+     *
+     * @param status Optional status filter
+     * @param response The response the NDJSON body is written to
+     * @return Task streaming the export
+     */
+    @Operation(summary = "Export orders",
+               description = "Streams all orders, optionally filtered by status, as newline-delimited JSON")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export stream started")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> exportOrders(
+        @RequestParam(required = false) OrderStatus status,
+        HttpServletResponse response) {
+        ObjectWriter writer = objectMapper.writerFor(OrderResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            OutputStream outputStream = response.getOutputStream();
+            orderService.exportOrders(status, order -> {
+                try {
+                    writer.writeValue(outputStream, mapToResponse(order));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            outputStream.flush();
+            return null;
+        });
+    }
+
+    /**
+     * Streams order changes as Server-Sent Events ("order" events carrying an OrderStatusUpdate).
+     * Each event ID is the stream's position in the order-events topic; a client reconnecting
+     * with Last-Event-ID receives the changes it missed instead of reloading its orders.
+     *
+     * @param status Optional status filter
+     * @param customer Optional customer name filter
+     * @param lastEventId ID of the last event received before a reconnect
+     * @return The event stream
+     */
+    @Operation(summary = "Stream order changes",
+               description = "Streams order changes as Server-Sent Events, optionally filtered by status or customer. "
+                   + "Reconnect with Last-Event-ID to resume; a \"reset\" event means the position has expired and orders must be reloaded")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream started")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrders(
+        @RequestParam(required = false) OrderStatus status,
+        @RequestParam(required = false) String customer,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return orderStreamService.subscribe(status, customer, lastEventId);
     }
 
     /**
@@ -150,8 +296,55 @@ public class OrderController {
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteOrder(@PathVariable Long id) {
-        orderService.deleteOrder(orderId);
-        return ResponseEntity.noContent().build();
+        orderService.deleteOrder(id);
+    }
+
+    /**
+     * Clamps a requested page size to [1, MAX_PAGE_SIZE].
+     */
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Maps an OrderRequest DTO to a new Order entity.
+     *
+     * @param orderRequest The request to map
+     * @return A transient Order ready to be persisted
+     */
+    private Order mapToOrder(OrderRequest orderRequest) {
+        Order order = new Order();
+        order.setCustomerName(orderRequest.getCustomerName());
+        order.setTotalAmount(orderRequest.getTotalAmount());
+        order.setNotes(orderRequest.getDescription());
+        for (OrderItemRequest itemRequest : orderRequest.getItems()) {
+            order.addItem(OrderItem.builder()
+                    .sku(itemRequest.getSku())
+                    .productName(itemRequest.getProductName())
+                    .quantity(itemRequest.getQuantity())
+                    .unitPrice(itemRequest.getUnitPrice())
+                    .build());
+        }
+        return order;
+    }
+
+    /**
+     * Maps an order summary to OrderResponse DTO.
+     *
+     * @param order The summary to map
+     * @return The mapped OrderResponse
+     */
+    OrderResponse mapToResponse(OrderSummary order) {
+        OrderResponse response = new OrderResponse();
+        response.setId(order.id());
+        response.setCustomerName(order.customerName());
+        response.setTotalAmount(order.totalAmount());
+        response.setDescription(order.notes());
+        response.setStatus(order.status());
+        response.setCreatedDate(order.createdAt());
+        response.setLastModifiedDate(order.updatedAt());
+        response.setVersion(order.version());
+        return response;
     }
 
     /**
@@ -160,16 +353,34 @@ public class OrderController {
      * @param order The order entity to map
      * @return The mapped OrderResponse
      */
-    private OrderResponse mapToResponse(Order order) {
+    OrderResponse mapToResponse(Order order) {
         OrderResponse response = new OrderResponse();
         response.setId(order.getId());
         response.setCustomerName(order.getCustomerName());
         response.setTotalAmount(order.getTotalAmount());
-        response.setDescription(order.getDescription());
+        response.setDescription(order.getNotes());
         response.setStatus(order.getStatus());
-        response.setCreatedDate(order.getCreatedDate());
-        response.setLastModifiedDate(order.getLastModifiedDate());
+        response.setCreatedDate(order.getCreatedAt());
+        response.setLastModifiedDate(order.getUpdatedAt());
         response.setVersion(order.getVersion());
+        response.setItems(order.getItems().stream()
+                .map(this::mapToItemResponse)
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    /**
+     * Maps an OrderItem entity to OrderItemResponse DTO.
+     *
+     * @param item The line item to map
+     * @return The mapped OrderItemResponse
+     */
+    private OrderItemResponse mapToItemResponse(OrderItem item) {
+        OrderItemResponse response = new OrderItemResponse();
+        response.setSku(item.getSku());
+        response.setProductName(item.getProductName());
+        response.setQuantity(item.getQuantity());
+        response.setUnitPrice(item.getUnitPrice());
         return response;
     }
 }
\ No newline at end of file
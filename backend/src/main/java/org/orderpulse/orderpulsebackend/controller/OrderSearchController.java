@@ -0,0 +1,93 @@
+package org.orderpulse.orderpulsebackend.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.orderpulse.orderpulsebackend.dto.OrderResponse;
+import org.orderpulse.orderpulsebackend.dto.OrderSearchRequest;
+import org.orderpulse.orderpulsebackend.dto.SearchPage;
+import org.orderpulse.orderpulsebackend.search.OrderDocument;
+import org.orderpulse.orderpulsebackend.search.OrderReindexService;
+import org.orderpulse.orderpulsebackend.search.OrderSearchIndex;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+
+/**
+ * REST Controller for order search.
+ * Queries the order search index instead of PostgreSQL.
+ */
+@RestController
+@RequestMapping("/api/orders/search")
+@RequiredArgsConstructor
+@Tag(name = "Order Search", description = "APIs for searching orders")
+public class OrderSearchController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderSearchIndex orderSearchIndex;
+    private final OrderReindexService orderReindexService;
+
+    /**
+     * Searches orders by customer name, description, status and amount range.
+     * The index is updated asynchronously from order events, so very recent changes
+     * may take a moment to appear.
+     *
+     * @param request Search criteria and page
+     * @return One page of matching orders
+     */
+    @Operation(summary = "Search orders",
+               description = "Full-text search on customer name and description, filtered by status and amount range")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search completed"),
+        @ApiResponse(responseCode = "400", description = "Invalid criteria")
+    })
+    @GetMapping
+    public SearchPage<OrderResponse> searchOrders(@Valid @ModelAttribute OrderSearchRequest request) {
+        request.setSize(Math.max(1, Math.min(request.getSize(), MAX_PAGE_SIZE)));
+        return orderSearchIndex.search(request).map(this::mapToResponse);
+    }
+
+    /**
+     * Rebuilds the search index from PostgreSQL in the background.
+     * Restricted to administrators.
+     *
+     * @return 202 if the rebuild started, 409 if one is already running
+     */
+    @Operation(summary = "Rebuild the search index",
+               description = "Reindexes every order from the database; searches keep using the current index until it completes")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Rebuild started"),
+        @ApiResponse(responseCode = "409", description = "A rebuild is already running")
+    })
+    @PostMapping("/reindex")
+    public ResponseEntity<Void> reindex() {
+        return ResponseEntity.status(orderReindexService.startReindex() ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .build();
+    }
+
+    /**
+     * Maps an indexed order to the OrderResponse DTO.
+     */
+    private OrderResponse mapToResponse(OrderDocument document) {
+        OrderResponse response = new OrderResponse();
+        response.setId(document.getId());
+        response.setCustomerName(document.getCustomerName());
+        response.setTotalAmount(document.getTotalAmount() == null ? null : BigDecimal.valueOf(document.getTotalAmount()));
+        response.setDescription(document.getDescription());
+        response.setStatus(document.getStatus());
+        response.setCreatedDate(document.getCreatedAt());
+        response.setLastModifiedDate(document.getUpdatedAt());
+        response.setVersion(document.getVersion());
+        return response;
+    }
+}
@@ -0,0 +1,114 @@
+package org.orderpulse.orderpulsebackend.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that pin their carrier thread, typically by blocking inside a
+ * synchronized block or method. A pinned virtual thread holds one of the few carrier
+ * threads for the whole time it blocks, which quietly brings back the thread-pool limits
+ * virtual threads are meant to remove.
+ *
+ * Active only when spring.threads.virtual.enabled is set. Listens to the JDK's
+ * jdk.VirtualThreadPinned flight recorder event in-process:
+ * - every pinning longer than orderpulse.threads.pinning-monitor.threshold is recorded in
+ *   the orderpulse.threads.virtual.pinned timer
+ * - the first pinning per call site is logged at WARN with its stack trace, repeats at DEBUG
+ *
+ * Disable with orderpulse.threads.pinning-monitor.enabled=false.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "orderpulse.threads.pinning-monitor.enabled", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int MAX_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Timer pinnedTimer;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${orderpulse.threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+        this.pinnedTimer = Timer.builder("orderpulse.threads.virtual.pinned")
+            .description("Time virtual threads kept their carrier thread pinned while blocked")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * Records one pinning event and logs its call site.
+     */
+    void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinnedTimer.record(duration);
+
+        String stackTrace = format(event.getStackTrace());
+        RecordedThread thread = event.getThread();
+        String threadName = thread == null ? "?" : thread.getJavaName();
+        if (reportedSites.add(stackTrace)) {
+            log.warn("Virtual thread {} pinned its carrier for {} ms (further pinning at this site is logged at DEBUG){}",
+                threadName, duration.toMillis(), stackTrace);
+        } else {
+            log.debug("Virtual thread {} pinned its carrier for {} ms{}", threadName, duration.toMillis(), stackTrace);
+        }
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+            .limit(MAX_FRAMES)
+            .map(frame -> "\n\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")")
+            .collect(Collectors.joining());
+    }
+}
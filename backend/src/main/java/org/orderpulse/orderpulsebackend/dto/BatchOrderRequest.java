@@ -0,0 +1,25 @@
+package org.orderpulse.orderpulsebackend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO for bulk order ingestion requests.
+ * Each entry is validated with the same rules as a single order creation request.
+ */
+@Data
+public class BatchOrderRequest {
+
+    /**
+     * Upper bound on orders per request, keeping a single transaction reasonably sized.
+     */
+    public static final int MAX_ORDERS = 5000;
+
+    @NotEmpty(message = "At least one order is required")
+    @Size(max = MAX_ORDERS, message = "A batch may contain at most " + MAX_ORDERS + " orders")
+    private List<@Valid OrderRequest> orders;
+}
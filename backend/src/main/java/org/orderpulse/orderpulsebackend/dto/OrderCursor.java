@@ -0,0 +1,71 @@
+package org.orderpulse.orderpulsebackend.dto;
+
+import lombok.Value;
+import org.orderpulse.orderpulsebackend.entity.Order;
+import org.orderpulse.orderpulsebackend.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last order on a page for keyset (seek) pagination.
+ * Orders are listed by (createdAt, id); the next page starts strictly after this pair.
+ * Clients only ever see the opaque Base64 token produced by {@link #encode()}.
+ */
+@Value
+public class OrderCursor {
+
+    private static final char SEPARATOR = '|';
+
+    LocalDateTime createdAt;
+    Long id;
+
+    /**
+     * Creates a cursor positioned at the given order.
+     */
+    public static OrderCursor of(Order order) {
+        return new OrderCursor(order.getCreatedAt(), order.getId());
+    }
+
+    /**
+     * Creates a cursor positioned at the given order summary.
+     */
+    public static OrderCursor of(OrderSummary order) {
+        return new OrderCursor(order.createdAt(), order.id());
+    }
+
+    /**
+     * Encodes this cursor as an opaque, URL-safe token.
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token The cursor token, or null for the first page
+     * @return The decoded cursor, or null if no token was given
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static OrderCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new OrderCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.orderpulse.orderpulsebackend.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for one line item of an order creation request.
+ */
+@Data
+public class OrderItemRequest {
+
+    @NotBlank(message = "SKU is required")
+    @Size(max = 64, message = "SKU must be at most 64 characters")
+    private String sku;
+
+    private String productName;
+
+    @NotNull(message = "Quantity is required")
+    @Positive(message = "Quantity must be positive")
+    private Integer quantity;
+
+    @NotNull(message = "Unit price is required")
+    @DecimalMin(value = "0.00", message = "Unit price must not be negative")
+    private BigDecimal unitPrice;
+}
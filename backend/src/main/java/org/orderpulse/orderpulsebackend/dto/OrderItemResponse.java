@@ -0,0 +1,16 @@
+package org.orderpulse.orderpulsebackend.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for one line item of an order in the REST API.
+ */
+@Data
+public class OrderItemResponse {
+    private String sku;
+    private String productName;
+    private Integer quantity;
+    private BigDecimal unitPrice;
+}
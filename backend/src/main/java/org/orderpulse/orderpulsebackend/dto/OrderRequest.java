@@ -1,11 +1,15 @@
 package org.orderpulse.orderpulsebackend.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * DTO for incoming order creation requests.
@@ -14,6 +18,11 @@ import java.math.BigDecimal;
 @Data
 public class OrderRequest {
 
+    /**
+     * Upper bound on line items per order.
+     */
+    public static final int MAX_ITEMS = 500;
+
     @NotBlank(message = "Customer name is required")
     private String customerName;
 
@@ -22,4 +31,8 @@ public class OrderRequest {
     private BigDecimal totalAmount;
 
     private String description;
+
+    @NotEmpty(message = "Order items are required")
+    @Size(max = MAX_ITEMS, message = "An order may contain at most " + MAX_ITEMS + " items")
+    private List<@Valid OrderItemRequest> items;
 }
\ No newline at end of file
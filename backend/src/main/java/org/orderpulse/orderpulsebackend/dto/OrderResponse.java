@@ -1,14 +1,17 @@
 package org.orderpulse.orderpulsebackend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import org.orderpulse.orderpulsebackend.entity.OrderStatus;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * DTO for order responses in the REST API.
  * Contains all necessary order information for client consumption.
+ * Line items are only included for single-order responses; listings leave them out.
  */
 @Data
 public class OrderResponse {
@@ -19,5 +22,8 @@ public class OrderResponse {
     private OrderStatus status;
     private LocalDateTime createdDate;
     private LocalDateTime lastModifiedDate;
-    private Integer version;
+    private Long version;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<OrderItemResponse> items;
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package org.orderpulse.orderpulsebackend.dto;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for order search requests, bound from query parameters.
+ * All criteria are optional and combined with AND; customer and description are full-text
+ * matches requiring every word, status is exact, and the amount range is inclusive.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderSearchRequest {
+
+    private String customer;
+
+    private String description;
+
+    private OrderStatus status;
+
+    @PositiveOrZero(message = "Minimum amount cannot be negative")
+    private BigDecimal minAmount;
+
+    @PositiveOrZero(message = "Maximum amount cannot be negative")
+    private BigDecimal maxAmount;
+
+    @PositiveOrZero(message = "Page cannot be negative")
+    @Builder.Default
+    private int page = 0;
+
+    @Builder.Default
+    private int size = 20;
+}
@@ -0,0 +1,62 @@
+package org.orderpulse.orderpulsebackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.orderpulse.orderpulsebackend.event.OrderEventType;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object pushed to WebSocket subscribers when an order changes.
+ * Carries the order's latest known state; intermediate states may be skipped.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderStatusUpdate {
+    private Long orderId;
+    private Long version;
+    private OrderEventType type;
+    private OrderStatus status;
+    private String customerName;
+    private Instant occurredAt;
+
+    /**
+     * Creates an update from an order event.
+     *
+     * @param event The order event
+     * @return The update to push
+     */
+    public static OrderStatusUpdate from(OrderEvent event) {
+        return OrderStatusUpdate.builder()
+                .orderId(event.getOrderId())
+                .version(event.getOrderVersion())
+                .type(event.getType())
+                .status(event.getStatus())
+                .customerName(event.getCustomerName())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+
+    /**
+     * Whether this update supersedes another update of the same order.
+     * A deletion is final; otherwise the higher order version wins.
+     *
+     * @param other The update currently pending
+     * @return true if this update should replace it
+     */
+    public boolean supersedes(OrderStatusUpdate other) {
+        if (other.type == OrderEventType.DELETE) {
+            return false;
+        }
+        if (type == OrderEventType.DELETE || version == null || other.version == null) {
+            return true;
+        }
+        return version >= other.version;
+    }
+}
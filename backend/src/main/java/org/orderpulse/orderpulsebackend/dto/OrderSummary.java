@@ -0,0 +1,41 @@
+package org.orderpulse.orderpulsebackend.dto;
+
+import org.orderpulse.orderpulsebackend.entity.Order;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of an order with the columns shown in listings.
+ * Selected directly by JPQL constructor expressions in OrderRepository, so list queries
+ * never load line items and return no managed entities.
+ */
+public record OrderSummary(
+    Long id,
+    String customerName,
+    BigDecimal totalAmount,
+    String notes,
+    OrderStatus status,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Long version
+) {
+
+    /**
+     * JPQL constructor expression selecting an OrderSummary from alias {@code o}.
+     */
+    public static final String SELECT = "SELECT new org.orderpulse.orderpulsebackend.dto.OrderSummary("
+        + "o.id, o.customerName, o.totalAmount, o.notes, o.status, o.createdAt, o.updatedAt, o.version) ";
+
+    /**
+     * Summarizes an order without touching its line items.
+     *
+     * @param order The order to summarize
+     * @return The order's listing columns
+     */
+    public static OrderSummary from(Order order) {
+        return new OrderSummary(order.getId(), order.getCustomerName(), order.getTotalAmount(), order.getNotes(),
+            order.getStatus(), order.getCreatedAt(), order.getUpdatedAt(), order.getVersion());
+    }
+}
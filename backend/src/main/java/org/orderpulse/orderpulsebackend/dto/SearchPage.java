@@ -0,0 +1,30 @@
+package org.orderpulse.orderpulsebackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * One page of search results.
+ * {@code totalHits} counts all matches; beyond 10,000 it is a lower bound.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchPage<T> {
+    private List<T> items;
+    private long totalHits;
+    private int page;
+    private int size;
+
+    /**
+     * Converts the items of this page while keeping the paging information.
+     */
+    public <R> SearchPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new SearchPage<>(items.stream().map(mapper).collect(Collectors.toList()), totalHits, page, size);
+    }
+}
@@ -8,13 +8,18 @@ import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Order Entity - Core domain object representing an order in the system.
@@ -24,15 +29,26 @@ import java.time.LocalDateTime;
  * 1. Saved to the database through JPA
  * 2. Published to Kafka as an event for other services to consume
  *
+ * The schema is managed by Flyway (src/main/resources/db/migration); the indexes listed
+ * here mirror the migrations, which also add a trigram index for customer name search.
+ *
+ * Line items are a separate OrderItem table. They are loaded lazily and in batches
+ * (@BatchSize), so reads that don't touch items never query them, and initializing the
+ * items of many orders in one session takes one query per batch instead of one per order.
+ *
  * Key annotations:
  * @Entity - Marks this as a JPA entity for database mapping
  * @EntityListeners - Enables automatic date auditing
- * @Table - Specifies the database table name
+ * @Table - Specifies the database table name and its indexes
  * @Data - Lombok annotation for getters, setters, equals, hashCode, toString
  * @Builder - Enables builder pattern for object creation
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_status_created_at", columnList = "status, createdAt, id"),
+    @Index(name = "idx_orders_customer_created_at", columnList = "customerName, createdAt, id"),
+    @Index(name = "idx_orders_status_total_amount", columnList = "status, totalAmount")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @NoArgsConstructor
@@ -40,8 +56,14 @@ import java.time.LocalDateTime;
 @Builder
 public class Order {
 
+    /**
+     * Sequence-based identifier with a pooled optimizer.
+     * Unlike IDENTITY, IDs are known before the INSERT, which lets Hibernate
+     * group inserts into JDBC batches; one sequence call reserves 50 IDs.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Customer name is required")
@@ -52,8 +74,13 @@ public class Order {
     private BigDecimal totalAmount;
 
     @NotEmpty(message = "Order items are required")
-    @Column(columnDefinition = "TEXT")
-    private String items;  // JSON string of order items
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
+    @BatchSize(size = 50)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Builder.Default
+    private List<OrderItem> items = new ArrayList<>();
 
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
@@ -74,4 +101,14 @@ public class Order {
      */
     @Version
     private Long version;
-}
\ No newline at end of file
+
+    /**
+     * Adds a line item and links it to this order.
+     *
+     * @param item The item to add
+     */
+    public void addItem(OrderItem item) {
+        item.setOrder(this);
+        items.add(item);
+    }
+}
@@ -0,0 +1,68 @@
+package org.orderpulse.orderpulsebackend.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * One line of an order: a quantity of a product identified by its SKU.
+ *
+ * Line items live in their own table (order_items) so they can be queried and
+ * aggregated per SKU; the owning Order loads them lazily in batches.
+ */
+@Entity
+@Table(name = "order_items", indexes = {
+    @Index(name = "idx_order_items_order_id", columnList = "order_id"),
+    @Index(name = "idx_order_items_sku", columnList = "sku, order_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderItem {
+
+    /**
+     * Sequence-based identifier with a pooled optimizer, so item inserts are batched
+     * together with their orders.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * The owning order. Excluded from JSON, equals/hashCode and toString to avoid
+     * cycles and lazy loading.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "order_id", nullable = false)
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Order order;
+
+    @NotBlank(message = "SKU is required")
+    @Column(nullable = false, length = 64)
+    private String sku;
+
+    private String productName;
+
+    @NotNull(message = "Quantity is required")
+    @Positive(message = "Quantity must be positive")
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @NotNull(message = "Unit price is required")
+    @Column(nullable = false)
+    private BigDecimal unitPrice;
+}
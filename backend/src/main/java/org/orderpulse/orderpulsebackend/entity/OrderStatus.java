@@ -1,8 +1,25 @@
 package org.orderpulse.orderpulsebackend.entity;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Enumeration of possible order statuses in the system.
  * Using an enum ensures type safety and provides a clear set of valid states.
+ *
+ * Statuses form a state machine; the allowed transitions are:
+ * - PENDING -> CONFIRMED, CANCELLED
+ * - CONFIRMED -> PREPARING, CANCELLED
+ * - PREPARING -> READY, CANCELLED
+ * - READY -> IN_TRANSIT, DELIVERED (pickup), CANCELLED
+ * - IN_TRANSIT -> DELIVERED
+ * - DELIVERED -> REFUNDED
+ * - CANCELLED -> REFUNDED
+ * - REFUNDED is final
+ *
+ * The table is computed once at class initialization: each status holds a bitmask of
+ * its successors and the names of its predecessors, so checking a transition or building
+ * the conditional status update allocates nothing.
  */
 public enum OrderStatus {
     PENDING,         // Initial status when order is first created
@@ -12,5 +29,54 @@ public enum OrderStatus {
     IN_TRANSIT,      // Order is being delivered
     DELIVERED,       // Order has been successfully delivered
     CANCELLED,       // Order was cancelled
-    REFUNDED         // Order was refunded
-}
\ No newline at end of file
+    REFUNDED;        // Order was refunded
+
+    private int successors;                 // Bit i set: may move to values()[i]
+    private List<String> predecessorNames;  // Names of the statuses that may move here
+
+    static {
+        allow(PENDING, CONFIRMED, CANCELLED);
+        allow(CONFIRMED, PREPARING, CANCELLED);
+        allow(PREPARING, READY, CANCELLED);
+        allow(READY, IN_TRANSIT, DELIVERED, CANCELLED);
+        allow(IN_TRANSIT, DELIVERED);
+        allow(DELIVERED, REFUNDED);
+        allow(CANCELLED, REFUNDED);
+
+        for (OrderStatus target : values()) {
+            List<String> names = new ArrayList<>();
+            for (OrderStatus source : values()) {
+                if (source.canTransitionTo(target)) {
+                    names.add(source.name());
+                }
+            }
+            target.predecessorNames = List.copyOf(names);
+        }
+    }
+
+    private static void allow(OrderStatus source, OrderStatus... targets) {
+        for (OrderStatus target : targets) {
+            source.successors |= 1 << target.ordinal();
+        }
+    }
+
+    /**
+     * Checks whether an order in this status may move to the given status.
+     *
+     * @param target The requested status
+     * @return true if the transition is allowed
+     */
+    public boolean canTransitionTo(OrderStatus target) {
+        return (successors & (1 << target.ordinal())) != 0;
+    }
+
+    /**
+     * Names of the statuses an order may be in to move to this status, as stored in the
+     * status column. Empty for statuses that can only be assigned on creation.
+     *
+     * @return Immutable, precomputed list of status names
+     */
+    public List<String> allowedPreviousNames() {
+        return predecessorNames;
+    }
+}
@@ -0,0 +1,50 @@
+package org.orderpulse.orderpulsebackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox Entity - An order event waiting to be relayed to Kafka.
+ *
+ * Rows are written in the same JPA transaction as the order change that caused them,
+ * so an order and its event are either both committed or both rolled back.
+ * The OutboxRelay drains this table in batches and deletes rows once Kafka has
+ * acknowledged them.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    /**
+     * Identifier assigned at insert time, not at commit time: concurrent transactions
+     * can commit out of key order, and SKIP LOCKED can relay a higher ID before a lower one.
+     *
+     * Per-order ordering does not depend on it. An order's events are written by
+     * transactions that hold the order's row lock, so each is inserted after the previous
+     * one committed; they are keyed by order ID, so they land on the same partition.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String aggregateId;  // Kafka record key (the order ID)
+
+    @Column(nullable = false)
+    private String eventType;    // CREATE, UPDATE, DELETE
+
+    @Column(nullable = false, columnDefinition = "BYTEA")
+    private byte[] payload;      // Event encoded with OrderEventSerializer
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
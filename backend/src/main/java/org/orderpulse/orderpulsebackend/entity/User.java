@@ -5,12 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.orderpulse.orderpulsebackend.security.UserCacheInvalidationListener;
 
 /**
  * Entity class representing a user in the system.
  * This class maps to the 'users' table in the database and contains user authentication
  * and identification information.
  *
+ * Updates and deletions clear the cached JWT principals (see UserCacheInvalidationListener).
+ *
  * @see Role for possible user roles
  */
 @Data
@@ -19,6 +22,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCacheInvalidationListener.class)
 public class User {
     /**
      * Unique identifier for the user.
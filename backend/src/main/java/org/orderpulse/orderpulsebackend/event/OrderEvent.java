@@ -5,21 +5,72 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.orderpulse.orderpulsebackend.entity.Order;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
 
-import java.time.LocalDateTime;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
 
 /**
  * Represents an order event in the system.
- * This class defines the structure of messages that will be sent through Kafka.
+ * This class defines the structure of messages that are sent through Kafka.
+ *
+ * Events carry a snapshot of the order's summary fields rather than the full Order
+ * entity; consumers that need more load the order by ID. On the wire events use the
+ * compact binary format written by OrderEventSerializer:
+ *
+ * <pre>
+ * magic (1) | schema version (1) | type (1) | presence flags (1)
+ * eventId (16) | orderId (8) | orderVersion (8)? | status (UTF)? | customerName (UTF)?
+ * totalAmount (scale 4 + length 2 + unscaled bytes)? | occurredAt (epoch millis 8)
+ * </pre>
+ *
+ * Versioning: a new schema version may only append fields. Readers decode the fields
+ * they know and ignore trailing bytes, so older consumers keep working during rollouts.
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class OrderEvent {
-    private String eventId;          // Unique identifier for the event
-    private String eventType;        // Type of event (CREATE, UPDATE, DELETE)
-    private Order order;             // The order associated with this event
-    private LocalDateTime timestamp; // When the event occurred
-    private String message;          // Optional message providing additional context
-}
\ No newline at end of file
+
+    /**
+     * First byte of every encoded event, rejects payloads in any other format.
+     */
+    public static final byte MAGIC = (byte) 0xE0;
+
+    /**
+     * Schema version written by this build.
+     */
+    public static final byte SCHEMA_VERSION = 1;
+
+    private UUID eventId;             // Unique identifier for the event
+    private OrderEventType type;      // Type of event (CREATE, UPDATE, DELETE)
+    private Long orderId;             // ID of the order the event refers to
+    private Long orderVersion;        // Order.version after the change (optimistic lock counter)
+    private OrderStatus status;       // Order status after the change
+    private String customerName;      // Customer who placed the order
+    private BigDecimal totalAmount;   // Order total
+    private Instant occurredAt;       // When the event occurred
+
+    /**
+     * Creates an event describing the current state of an order.
+     *
+     * @param order The order the event refers to (ID must be assigned)
+     * @param type The type of event
+     * @param occurredAt When the change happened
+     * @return A new event with a random event ID
+     */
+    public static OrderEvent of(Order order, OrderEventType type, Instant occurredAt) {
+        return OrderEvent.builder()
+            .eventId(UUID.randomUUID())
+            .type(type)
+            .orderId(order.getId())
+            .orderVersion(order.getVersion())
+            .status(order.getStatus())
+            .customerName(order.getCustomerName())
+            .totalAmount(order.getTotalAmount())
+            .occurredAt(occurredAt)
+            .build();
+    }
+}
@@ -0,0 +1,42 @@
+package org.orderpulse.orderpulsebackend.event;
+
+/**
+ * Types of order events published to Kafka.
+ * Declaration order is the order in which a batch listener processes grouped events.
+ *
+ * Each type has a fixed wire code used by the binary event format; codes must never
+ * be reused or renumbered.
+ */
+public enum OrderEventType {
+    CREATE(1),  // A new order was placed
+    UPDATE(2),  // An order's status changed
+    DELETE(3);  // An order was removed
+
+    private final int code;
+
+    OrderEventType(int code) {
+        this.code = code;
+    }
+
+    /**
+     * @return The wire code of this type
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Resolves a wire code.
+     *
+     * @param code The wire code
+     * @return The matching type, or null if the code is unknown
+     */
+    public static OrderEventType fromCode(int code) {
+        for (OrderEventType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
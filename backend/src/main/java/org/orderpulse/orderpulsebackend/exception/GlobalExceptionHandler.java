@@ -38,6 +38,44 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles InvalidCursorException.
+     * Triggered when a pagination cursor is malformed or was not issued by this API.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(
+            InvalidCursorException ex, WebRequest request) {
+        ErrorResponse error = ErrorResponse.builder()
+                .message(ex.getMessage())
+                .details("Use the nextCursor value returned by the previous page")
+                .path(request.getDescription(false))
+                .timestamp(LocalDateTime.now())
+                .errorCode("INVALID_CURSOR")
+                .status(HttpStatus.BAD_REQUEST.value())
+                .build();
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles InvalidStatusTransitionException.
+     * Triggered when a status change is not allowed from the order's current status.
+     */
+    @ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidStatusTransitionException(
+            InvalidStatusTransitionException ex, WebRequest request) {
+        ErrorResponse error = ErrorResponse.builder()
+                .message(ex.getMessage())
+                .details("The requested status cannot follow the order's current status")
+                .path(request.getDescription(false))
+                .timestamp(LocalDateTime.now())
+                .errorCode("INVALID_STATUS_TRANSITION")
+                .status(HttpStatus.CONFLICT.value())
+                .build();
+
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
     /**
      * Handles validation errors for @Valid annotated request bodies.
      * Consolidates all validation errors into a single error response.
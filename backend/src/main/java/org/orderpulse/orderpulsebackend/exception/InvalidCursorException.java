@@ -0,0 +1,11 @@
+package org.orderpulse.orderpulsebackend.exception;
+
+/**
+ * Exception thrown when a pagination cursor token cannot be decoded.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+    }
+}
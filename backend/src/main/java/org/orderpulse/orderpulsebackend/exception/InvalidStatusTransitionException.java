@@ -0,0 +1,17 @@
+package org.orderpulse.orderpulsebackend.exception;
+
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+
+/**
+ * Exception thrown when an order status change is not allowed by the order state machine.
+ */
+public class InvalidStatusTransitionException extends RuntimeException {
+
+    public InvalidStatusTransitionException(Long orderId, OrderStatus newStatus) {
+        super("Order " + orderId + " cannot be moved to " + newStatus);
+    }
+
+    public InvalidStatusTransitionException(Long orderId, OrderStatus currentStatus, OrderStatus newStatus) {
+        super("Order " + orderId + " cannot be moved from " + currentStatus + " to " + newStatus);
+    }
+}
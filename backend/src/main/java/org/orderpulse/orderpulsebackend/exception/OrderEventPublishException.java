@@ -0,0 +1,15 @@
+package org.orderpulse.orderpulsebackend.exception;
+
+/**
+ * Exception thrown when an order event cannot be serialized or handed off to Kafka.
+ */
+public class OrderEventPublishException extends RuntimeException {
+
+    public OrderEventPublishException(String message) {
+        super(message);
+    }
+
+    public OrderEventPublishException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
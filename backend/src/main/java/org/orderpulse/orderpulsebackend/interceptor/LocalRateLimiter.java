@@ -0,0 +1,35 @@
+package org.orderpulse.orderpulsebackend.interceptor;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import org.orderpulse.orderpulsebackend.config.RateLimitConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory rate limiter: one Bucket4j bucket per client and endpoint group.
+ *
+ * Buckets live in a bounded Caffeine cache and expire after a period of inactivity.
+ * Each instance enforces the full quota on its own, so with N instances behind a load
+ * balancer a client can get up to N times the configured rate.
+ */
+@Component
+@ConditionalOnProperty(name = "orderpulse.rate-limit.mode", havingValue = "local")
+public class LocalRateLimiter implements RateLimiter {
+
+    private final LoadingCache<RateLimitKey, Bucket> buckets;
+
+    public LocalRateLimiter(RateLimitConfig rateLimitConfig) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(rateLimitConfig.getMaxClients())
+                .expireAfterAccess(rateLimitConfig.getIdleExpiry())
+                .build(key -> rateLimitConfig.createNewBucket(key.group()));
+    }
+
+    @Override
+    public ConsumptionProbe tryConsume(RateLimitKey key) {
+        return buckets.get(key).tryConsumeAndReturnRemaining(1);
+    }
+}
@@ -0,0 +1,26 @@
+package org.orderpulse.orderpulsebackend.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Endpoint groups with separate rate limits.
+ * Each client gets an independent bucket per group, so a burst of writes
+ * does not use up the same client's read quota.
+ */
+public enum RateLimitGroup {
+    READ,   // GET, HEAD and OPTIONS requests
+    WRITE;  // Requests that modify state (POST, PUT, PATCH, DELETE)
+
+    /**
+     * Classifies a request by its HTTP method.
+     *
+     * @param request The incoming request
+     * @return The endpoint group the request is limited under
+     */
+    public static RateLimitGroup of(HttpServletRequest request) {
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> READ;
+            default -> WRITE;
+        };
+    }
+}
@@ -1,34 +1,30 @@
 package org.orderpulse.orderpulsebackend.interceptor;
 
-import io.github.bucket4j.Bucket;
 import io.github.bucket4j.ConsumptionProbe;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.orderpulse.orderpulsebackend.config.RateLimitConfig;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 /**
  * Interceptor that implements rate limiting for API endpoints.
  * Uses token bucket algorithm via Bucket4j to control request rates.
+ *
+ * Every client has its own bucket per endpoint group (see RateLimitGroup), so a noisy
+ * client only exhausts its own quota. Clients are identified by the authenticated
+ * principal name, or by remote address for anonymous requests. Where the buckets live
+ * is up to the RateLimiter (in memory, or shared through Redis).
  */
 @Component
 @RequiredArgsConstructor
 public class RateLimitInterceptor implements HandlerInterceptor {
 
-    private final RateLimitConfig rateLimitConfig;
-    private final Bucket bucket;
-
-    /**
-     * Constructor that initializes the rate limiter bucket.
-     * @param rateLimitConfig Configuration for creating rate limit buckets
-     */
-    public RateLimitInterceptor(RateLimitConfig rateLimitConfig) {
-        this.rateLimitConfig = rateLimitConfig;
-        this.bucket = rateLimitConfig.createNewBucket();
-    }
+    private final RateLimiter rateLimiter;
 
     /**
      * Handles pre-processing of requests to apply rate limiting.
@@ -38,8 +34,9 @@ public class RateLimitInterceptor implements HandlerInterceptor {
      */
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
-        
+        RateLimitKey key = new RateLimitKey(resolveClient(request), RateLimitGroup.of(request));
+        ConsumptionProbe probe = rateLimiter.tryConsume(key);
+
         if (probe.isConsumed()) {
             response.addHeader("X-Rate-Limit-Remaining", String.valueOf(probe.getRemainingTokens()));
             return true;
@@ -50,4 +47,17 @@ public class RateLimitInterceptor implements HandlerInterceptor {
         response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * Identifies the caller: the authenticated principal if there is one, otherwise the
+     * remote address (which honours X-Forwarded-For only when server.forward-headers-strategy is set).
+     */
+    private static String resolveClient(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,10 @@
+package org.orderpulse.orderpulsebackend.interceptor;
+
+/**
+ * Identifies one rate limit bucket: a client within an endpoint group.
+ *
+ * @param client The client identity, "user:&lt;principal&gt;" or "ip:&lt;address&gt;"
+ * @param group The endpoint group
+ */
+public record RateLimitKey(String client, RateLimitGroup group) {
+}
@@ -0,0 +1,22 @@
+package org.orderpulse.orderpulsebackend.interceptor;
+
+import io.github.bucket4j.ConsumptionProbe;
+
+/**
+ * Token bucket rate limiter used by RateLimitInterceptor.
+ *
+ * Implementations (selected by orderpulse.rate-limit.mode):
+ * - LocalRateLimiter (local): in-memory buckets, each instance enforces its own quota
+ * - RedisRateLimiter (redis, default): buckets shared by all instances through Redis
+ */
+public interface RateLimiter {
+
+    /**
+     * Tries to take one token from the bucket identified by the key.
+     *
+     * @param key The client and endpoint group
+     * @return Probe telling whether the request is allowed, how many tokens remain,
+     *         and how long to wait for a refill when it is not
+     */
+    ConsumptionProbe tryConsume(RateLimitKey key);
+}
@@ -0,0 +1,196 @@
+package org.orderpulse.orderpulsebackend.interceptor;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.github.bucket4j.ConsumptionProbe;
+import lombok.extern.slf4j.Slf4j;
+import org.orderpulse.orderpulsebackend.config.RateLimitConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Distributed rate limiter: token buckets shared by all instances through Redis.
+ *
+ * Each bucket is a Redis hash updated atomically by a Lua script
+ * (scripts/rate_limit_token_bucket.lua), so the configured rate holds for the whole
+ * cluster regardless of how many instances serve a client.
+ *
+ * To keep Redis off the hot path, an instance takes tokens in small batches and hands
+ * them out locally. The batch size adapts to the client's traffic on this instance:
+ * it doubles with each lease that is fully used, up to orderpulse.rate-limit.redis.prefetch,
+ * so occasional callers take one token per round trip and busy callers only need a round
+ * trip every few requests. Prefetched tokens are already deducted in Redis, so the
+ * cluster-wide limit is never exceeded. Unused tokens are dropped once Redis would have
+ * refilled them, which bounds how long a lease can be held back from other instances.
+ *
+ * If Redis is unreachable, requests are limited by an in-memory LocalRateLimiter until it recovers.
+ * While it is down, requests go straight to the fallback: only one request every
+ * orderpulse.rate-limit.redis.retry-interval probes Redis again, so clients do not each wait
+ * for the Redis command timeout (spring.data.redis.timeout) or queue on their lease lock.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "orderpulse.rate-limit.mode", havingValue = "redis", matchIfMissing = true)
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "orderpulse:rate-limit:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/rate_limit_token_bucket.lua"), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitConfig rateLimitConfig;
+    private final LocalRateLimiter fallback;
+    private final LoadingCache<RateLimitKey, Lease> leases;
+    private final long maxPrefetch;
+    private final long retryIntervalNanos;
+    private final AtomicLong retryAtNanos = new AtomicLong();  // Next Redis probe while unavailable
+    private volatile boolean redisAvailable = true;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate,
+                            RateLimitConfig rateLimitConfig,
+                            @Value("${orderpulse.rate-limit.redis.prefetch:10}") long maxPrefetch,
+                            @Value("${orderpulse.rate-limit.redis.retry-interval:5s}") Duration retryInterval) {
+        this.redisTemplate = redisTemplate;
+        this.rateLimitConfig = rateLimitConfig;
+        this.fallback = new LocalRateLimiter(rateLimitConfig);
+        this.maxPrefetch = Math.max(1, maxPrefetch);
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(rateLimitConfig.getMaxClients())
+                .expireAfterAccess(rateLimitConfig.getIdleExpiry())
+                .build(key -> new Lease());
+    }
+
+    @Override
+    public ConsumptionProbe tryConsume(RateLimitKey key) {
+        if (!redisAvailable && !claimRetry()) {
+            return fallback.tryConsume(key);
+        }
+        try {
+            ConsumptionProbe probe = leases.get(key).tryConsume(key);
+            if (!redisAvailable) {
+                redisAvailable = true;
+                log.info("Redis rate limiting recovered");
+            }
+            return probe;
+        } catch (DataAccessException e) {
+            retryAtNanos.set(System.nanoTime() + retryIntervalNanos);
+            if (redisAvailable) {
+                redisAvailable = false;
+                log.warn("Redis rate limiting unavailable, falling back to per-instance limits: {}", e.getMessage());
+            }
+            return fallback.tryConsume(key);
+        }
+    }
+
+    /**
+     * Lets exactly one caller probe Redis once the retry interval has passed.
+     *
+     * @return true if this caller should try Redis
+     */
+    private boolean claimRetry() {
+        long retryAt = retryAtNanos.get();
+        long now = System.nanoTime();
+        return now - retryAt >= 0 && retryAtNanos.compareAndSet(retryAt, now + retryIntervalNanos);
+    }
+
+    /**
+     * Takes up to the requested number of tokens from the shared bucket.
+     *
+     * @param key The bucket to consume from
+     * @param requested Maximum number of tokens to take
+     * @return Tokens granted, tokens left in the shared bucket, and milliseconds until
+     *         the next token when none were granted
+     */
+    TokenGrant fetch(RateLimitKey key, long requested) {
+        List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT,
+            List.of(KEY_PREFIX + key.group().name().toLowerCase() + ":" + key.client()),
+            String.valueOf(rateLimitConfig.getCapacity(key.group())),
+            String.valueOf(rateLimitConfig.getPeriod(key.group()).toMillis()),
+            String.valueOf(requested));
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("Unexpected rate limit script result: " + result);
+        }
+        return new TokenGrant(toLong(result.get(0)), toLong(result.get(1)), toLong(result.get(2)));
+    }
+
+    private static long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    /**
+     * Result of one round trip to the shared bucket.
+     */
+    record TokenGrant(long granted, long remaining, long waitMillis) {
+    }
+
+    /**
+     * Tokens prefetched by this instance for one client and endpoint group.
+     * Guarded by its own lock, so only requests of the same client contend. A lock rather
+     * than a monitor, because the Redis round trip happens while holding it and a blocked
+     * virtual thread must not pin its carrier.
+     */
+    private final class Lease {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private long tokens;           // Prefetched tokens not yet handed out
+        private long expiresAtNanos;   // After this, unused tokens are dropped
+        private long used;             // Tokens handed out from the current lease
+        private long remoteRemaining;  // Tokens left in Redis at the last fetch
+
+        ConsumptionProbe tryConsume(RateLimitKey key) {
+            lock.lock();
+            try {
+                return tryConsumeLocked(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private ConsumptionProbe tryConsumeLocked(RateLimitKey key) {
+            long now = System.nanoTime();
+            if (tokens > 0 && now - expiresAtNanos < 0) {
+                tokens--;
+                used++;
+                return ConsumptionProbe.consumed(remoteRemaining + tokens, 0);
+            }
+
+            // Ask for twice what the previous lease used, so the batch grows with traffic
+            long requested = Math.max(1, Math.min(maxPrefetch, used * 2));
+            TokenGrant grant = fetch(key, requested);
+            remoteRemaining = grant.remaining();
+            if (grant.granted() == 0) {
+                tokens = 0;
+                used = 0;
+                long waitNanos = TimeUnit.MILLISECONDS.toNanos(grant.waitMillis());
+                return ConsumptionProbe.rejected(remoteRemaining, waitNanos, waitNanos);
+            }
+
+            tokens = grant.granted() - 1;
+            used = 1;
+            expiresAtNanos = now + refillNanos(key.group(), grant.granted());
+            return ConsumptionProbe.consumed(remoteRemaining + tokens, 0);
+        }
+
+        /**
+         * Time the shared bucket needs to regenerate the given number of tokens.
+         */
+        private long refillNanos(RateLimitGroup group, long tokenCount) {
+            long periodNanos = rateLimitConfig.getPeriod(group).toNanos();
+            return Math.max(1, periodNanos / rateLimitConfig.getCapacity(group) * tokenCount);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.orderpulse.orderpulsebackend.kafka;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Worker pool that runs tasks in parallel across keys but sequentially per key.
+ *
+ * Each key is hashed onto one of a fixed number of lanes; a lane is a single
+ * worker thread with a bounded queue. Tasks for the same key (order ID) therefore
+ * execute in submission order, while different orders spread across all lanes.
+ *
+ * When a lane's queue is full, {@link #submit} blocks the caller (the Kafka listener
+ * thread) until space frees up, which throttles polling instead of buffering without bound.
+ *
+ * With spring.threads.virtual.enabled each lane runs on a virtual thread, so the lane
+ * count can be raised well beyond the core count without adding platform threads.
+ */
+@Slf4j
+@Component
+public class KeyOrderedExecutor {
+
+    private final ThreadPoolExecutor[] lanes;
+
+    public KeyOrderedExecutor(@Value("${orderpulse.kafka.consumer.worker-lanes:0}") int laneCount,
+                              @Value("${orderpulse.kafka.consumer.lane-queue-capacity:1000}") int queueCapacity,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        // 0 means one lane per available core
+        int count = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        this.lanes = new ThreadPoolExecutor[count];
+        for (int i = 0; i < count; i++) {
+            lanes[i] = newLane(i, queueCapacity, virtualThreads);
+        }
+        log.info("Order event worker pool started with {} {} lanes", count, virtualThreads ? "virtual" : "platform");
+    }
+
+    /**
+     * Queues a task on the lane owning the given key.
+     *
+     * @param key The ordering key; tasks with equal keys never run concurrently or out of order
+     * @param task The work to run
+     * @return Future completed when the task finishes, exceptionally if it throws
+     */
+    public CompletableFuture<Void> submit(Object key, Runnable task) {
+        return CompletableFuture.runAsync(task, laneFor(key));
+    }
+
+    /**
+     * @return Number of lanes (maximum parallelism)
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Stops accepting tasks and waits briefly for queued tasks to finish.
+     * Records whose processing does not complete are not acknowledged and will be redelivered.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                    lane.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ThreadPoolExecutor laneFor(Object key) {
+        int hash = key == null ? 0 : key.hashCode();
+        return lanes[Math.floorMod(hash, lanes.length)];
+    }
+
+    private static ThreadPoolExecutor newLane(int index, int queueCapacity, boolean virtualThreads) {
+        AtomicInteger created = new AtomicInteger();
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueCapacity),
+            runnable -> {
+                String name = "order-events-lane-" + index + "-" + created.incrementAndGet();
+                if (virtualThreads) {
+                    return Thread.ofVirtual().name(name).unstarted(runnable);
+                }
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            },
+            (runnable, executor) -> {
+                // Block the submitter until the lane has room (backpressure on the poll loop)
+                if (executor.isShutdown()) {
+                    throw new RejectedExecutionException("Order event worker pool is shut down");
+                }
+                try {
+                    executor.getQueue().put(runnable);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Interrupted while waiting for a worker lane", e);
+                }
+            });
+    }
+}
@@ -0,0 +1,60 @@
+package org.orderpulse.orderpulsebackend.kafka;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.orderpulse.orderpulsebackend.config.KafkaTopicConfig;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.orderpulse.orderpulsebackend.sse.OrderEventJournal;
+import org.orderpulse.orderpulsebackend.websocket.OrderStatusPushService;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-node reader of the order-events topic feeding the live channels:
+ * WebSocket push (OrderStatusPushService) and the SSE journal (OrderEventJournal).
+ *
+ * OrderConsumerService shares one consumer group across the cluster, so each event reaches a
+ * single node, while live clients may be connected to any node. This listener therefore reads
+ * in a consumer group of its own per node (orderPushKafkaListenerContainerFactory), starting
+ * from the latest offset since only changes made while the node runs are pushed.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveOrderEventListener implements ConsumerSeekAware {
+
+    private final OrderStatusPushService orderStatusPushService;
+    private final OrderEventJournal orderEventJournal;
+
+    /**
+     * Starts journaling each assigned partition at the consumer's position.
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        assignments.forEach((partition, position) -> orderEventJournal.start(partition.partition(), position));
+    }
+
+    /**
+     * Receives every order event published to the cluster.
+     *
+     * @param records The records returned by one poll
+     */
+    @KafkaListener(
+        id = "liveOrderEventListener",
+        idIsGroup = false,
+        topics = KafkaTopicConfig.ORDER_TOPIC,
+        containerFactory = "orderPushKafkaListenerContainerFactory"
+    )
+    public void onOrderEvents(List<ConsumerRecord<String, OrderEvent>> records) {
+        for (ConsumerRecord<String, OrderEvent> record : records) {
+            if (record.value() != null) {
+                orderEventJournal.append(record.partition(), record.offset(), record.value());
+                orderStatusPushService.offer(record.value());
+            }
+        }
+    }
+}
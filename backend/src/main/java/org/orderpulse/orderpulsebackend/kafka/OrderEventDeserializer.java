@@ -0,0 +1,111 @@
+package org.orderpulse.orderpulsebackend.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.orderpulse.orderpulsebackend.event.OrderEventType;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.orderpulse.orderpulsebackend.kafka.OrderEventSerializer.HAS_AMOUNT;
+import static org.orderpulse.orderpulsebackend.kafka.OrderEventSerializer.HAS_CUSTOMER;
+import static org.orderpulse.orderpulsebackend.kafka.OrderEventSerializer.HAS_STATUS;
+import static org.orderpulse.orderpulsebackend.kafka.OrderEventSerializer.HAS_VERSION;
+
+/**
+ * Kafka deserializer reading OrderEvent from the compact binary format described on OrderEvent.
+ *
+ * Payloads from newer schema versions are accepted: the fields known to this build
+ * are read and any appended fields are ignored. Anything without the expected magic
+ * byte, or truncated, is rejected with a SerializationException.
+ *
+ * A status this build does not know (added by a newer producer during a rolling deploy)
+ * is decoded as absent, like an event without status, and counted in
+ * orderpulse.kafka.consumer.unknown-status; the rest of the event is still delivered.
+ * Instances are created outside the Spring context, so the counter lives in the global
+ * registry, which Spring Boot's registry is part of.
+ */
+public class OrderEventDeserializer implements Deserializer<OrderEvent> {
+
+    private static final Counter UNKNOWN_STATUS = Counter.builder("orderpulse.kafka.consumer.unknown-status")
+        .description("Order events whose status is unknown to this build, decoded without status")
+        .register(Metrics.globalRegistry);
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    @Override
+    public OrderEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readByte() != OrderEvent.MAGIC) {
+                throw new SerializationException("Not an order event payload");
+            }
+            int schemaVersion = in.readUnsignedByte();
+            if (schemaVersion < 1) {
+                throw new SerializationException("Unsupported order event schema version " + schemaVersion);
+            }
+
+            int typeCode = in.readUnsignedByte();
+            OrderEventType type = OrderEventType.fromCode(typeCode);
+            if (type == null) {
+                throw new SerializationException("Unknown order event type code " + typeCode);
+            }
+            int flags = in.readUnsignedByte();
+
+            return OrderEvent.builder()
+                .type(type)
+                .eventId(new UUID(in.readLong(), in.readLong()))
+                .orderId(in.readLong())
+                .orderVersion((flags & HAS_VERSION) != 0 ? in.readLong() : null)
+                .status((flags & HAS_STATUS) != 0 ? readStatus(in) : null)
+                .customerName((flags & HAS_CUSTOMER) != 0 ? in.readUTF() : null)
+                .totalAmount((flags & HAS_AMOUNT) != 0 ? readDecimal(in) : null)
+                .occurredAt(Instant.ofEpochMilli(in.readLong()))
+                .build();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new SerializationException("Failed to deserialize order event", e);
+        }
+    }
+
+    /**
+     * Decodes an event outside of a Kafka consumer, e.g. from the outbox.
+     *
+     * @param data The encoded event
+     * @return The decoded event
+     */
+    public OrderEvent deserialize(byte[] data) {
+        return deserialize(null, data);
+    }
+
+    /**
+     * Reads a status name, returning null for names unknown to this build.
+     */
+    private static OrderStatus readStatus(DataInputStream in) throws IOException {
+        String name = in.readUTF();
+        for (OrderStatus status : STATUSES) {
+            if (status.name().equals(name)) {
+                return status;
+            }
+        }
+        UNKNOWN_STATUS.increment();
+        return null;
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readUnsignedShort()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+}
@@ -0,0 +1,78 @@
+package org.orderpulse.orderpulsebackend.kafka;
+
+import lombok.RequiredArgsConstructor;
+import org.orderpulse.orderpulsebackend.entity.Order;
+import org.orderpulse.orderpulsebackend.entity.OutboxEvent;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.orderpulse.orderpulsebackend.event.OrderEventType;
+import org.orderpulse.orderpulsebackend.repository.OutboxEventRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes order events to the transactional outbox.
+ *
+ * Events are stored in the caller's transaction instead of being sent to Kafka directly,
+ * so the request path never waits on the broker. OutboxRelay publishes them afterwards.
+ * Payloads are stored already encoded with OrderEventSerializer, so the relay sends them verbatim.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventOutbox {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO outbox_events (aggregate_id, event_type, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderEventSerializer serializer = new OrderEventSerializer();
+
+    /**
+     * Records an order event in the outbox.
+     * Must be called inside the transaction that modifies the order.
+     *
+     * @param order The order the event refers to
+     * @param eventType The type of event
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Order order, OrderEventType eventType) {
+        Instant now = Instant.now();
+        outboxEventRepository.save(OutboxEvent.builder()
+            .aggregateId(String.valueOf(order.getId()))
+            .eventType(eventType.name())
+            .payload(serializer.serialize(OrderEvent.of(order, eventType, now)))
+            .createdAt(LocalDateTime.ofInstant(now, ZoneId.systemDefault()))
+            .build());
+    }
+
+    /**
+     * Records one event per order with a single JDBC batch insert.
+     * The outbox has an IDENTITY key, which rules out Hibernate insert batching;
+     * plain JDBC batching has no such limit.
+     *
+     * @param orders The orders the events refer to (IDs must already be assigned)
+     * @param eventType The type of event
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(List<Order> orders, OrderEventType eventType) {
+        Instant now = Instant.now();
+        Timestamp createdAt = Timestamp.from(now);
+        List<Object[]> rows = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            rows.add(new Object[] {
+                String.valueOf(order.getId()), eventType.name(),
+                serializer.serialize(OrderEvent.of(order, eventType, now)), createdAt
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
@@ -0,0 +1,97 @@
+package org.orderpulse.orderpulsebackend.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Kafka serializer writing OrderEvent in the compact binary format described on OrderEvent.
+ *
+ * Fixed-width fields are written big-endian; optional fields are announced in a
+ * presence-flags byte and omitted when null. A typical event encodes to well under
+ * 100 bytes, versus roughly half a kilobyte for the JSON-encoded Order entity.
+ */
+public class OrderEventSerializer implements Serializer<OrderEvent> {
+
+    static final int HAS_VERSION = 1;
+    static final int HAS_STATUS = 1 << 1;
+    static final int HAS_CUSTOMER = 1 << 2;
+    static final int HAS_AMOUNT = 1 << 3;
+
+    @Override
+    public byte[] serialize(String topic, OrderEvent event) {
+        if (event == null) {
+            return null;
+        }
+        if (event.getType() == null || event.getOrderId() == null
+            || event.getEventId() == null || event.getOccurredAt() == null) {
+            throw new SerializationException("Order event is missing a required field: " + event);
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(OrderEvent.MAGIC);
+            out.writeByte(OrderEvent.SCHEMA_VERSION);
+            out.writeByte(event.getType().getCode());
+            out.writeByte(flags(event));
+            out.writeLong(event.getEventId().getMostSignificantBits());
+            out.writeLong(event.getEventId().getLeastSignificantBits());
+            out.writeLong(event.getOrderId());
+            if (event.getOrderVersion() != null) {
+                out.writeLong(event.getOrderVersion());
+            }
+            if (event.getStatus() != null) {
+                out.writeUTF(event.getStatus().name());
+            }
+            if (event.getCustomerName() != null) {
+                out.writeUTF(event.getCustomerName());
+            }
+            if (event.getTotalAmount() != null) {
+                writeDecimal(out, event.getTotalAmount());
+            }
+            out.writeLong(event.getOccurredAt().toEpochMilli());
+        } catch (IOException e) {
+            throw new SerializationException("Failed to serialize order event", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Encodes an event outside of a Kafka producer, e.g. for the outbox.
+     *
+     * @param event The event to encode
+     * @return The encoded event
+     */
+    public byte[] serialize(OrderEvent event) {
+        return serialize(null, event);
+    }
+
+    private static int flags(OrderEvent event) {
+        int flags = 0;
+        if (event.getOrderVersion() != null) {
+            flags |= HAS_VERSION;
+        }
+        if (event.getStatus() != null) {
+            flags |= HAS_STATUS;
+        }
+        if (event.getCustomerName() != null) {
+            flags |= HAS_CUSTOMER;
+        }
+        if (event.getTotalAmount() != null) {
+            flags |= HAS_AMOUNT;
+        }
+        return flags;
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(value.scale());
+        out.writeShort(unscaled.length);
+        out.write(unscaled);
+    }
+}
@@ -1,13 +1,20 @@
 package org.orderpulse.orderpulsebackend.kafka;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.orderpulse.orderpulsebackend.entity.Order;
+import org.orderpulse.orderpulsebackend.config.KafkaTopicConfig;
+import org.orderpulse.orderpulsebackend.exception.OrderEventPublishException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Kafka Producer for Order events.
@@ -15,44 +22,139 @@ import java.time.LocalDateTime;
  *
  * Uses:
  * - KafkaTemplate for reliable message publishing
- * - ObjectMapper for JSON serialization
  * - Slf4j for logging
+ *
+ * Events arrive already encoded (OrderEventOutbox serializes them when they are recorded),
+ * and OutboxRelay hands them over through {@link #publishAsync}.
+ *
+ * Sends are asynchronous and bounded: at most {@code maxInFlight} records may be
+ * awaiting a broker acknowledgement at any time. When the window is full the producer
+ * either blocks the caller for a bounded time (BLOCK) or rejects the send (FAIL_FAST).
+ * Delivery outcomes are logged and counted in the {@code orderpulse.kafka.producer.sends} metric,
+ * and the time from send to broker acknowledgement is recorded in {@code orderpulse.kafka.producer.ack}.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OrderProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    /**
+     * Behaviour when the in-flight window is exhausted.
+     */
+    public enum BackpressureMode {
+        BLOCK,      // Wait up to the acquire timeout for a free slot
+        FAIL_FAST   // Reject the send immediately
+    }
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final Semaphore inFlight;
+    private final BackpressureMode backpressureMode;
+    private final long acquireTimeoutMs;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Timer ackTimer;
+    private final Timer failedAckTimer;
+
+    public OrderProducer(KafkaTemplate<String, byte[]> kafkaTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${orderpulse.kafka.producer.max-in-flight:1000}") int maxInFlight,
+                         @Value("${orderpulse.kafka.producer.backpressure-mode:BLOCK}") BackpressureMode backpressureMode,
+                         @Value("${orderpulse.kafka.producer.acquire-timeout-ms:5000}") long acquireTimeoutMs) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.backpressureMode = backpressureMode;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.sentCounter = sendCounter(meterRegistry, "success");
+        this.failedCounter = sendCounter(meterRegistry, "failure");
+        this.rejectedCounter = sendCounter(meterRegistry, "rejected");
+        this.ackTimer = ackTimer(meterRegistry, "success");
+        this.failedAckTimer = ackTimer(meterRegistry, "failure");
+        Gauge.builder("orderpulse.kafka.producer.in-flight", inFlight, s -> maxInFlight - s.availablePermits())
+            .description("Order event sends awaiting broker acknowledgement")
+            .register(meterRegistry);
+    }
 
     /**
-     * Publishes an order event to Kafka.
-     * Serializes the order to JSON and sends it to the order-events topic.
+     * Sends an already serialized event to the order-events topic without blocking
+     * on the broker. The caller only waits when the in-flight window is full and the
+     * producer runs in BLOCK mode.
      *
-     * @param order The order to publish
-     * @param eventType The type of event (CREATE, UPDATE, etc.)
+     * @param key The record key (order ID), which keeps events for one order on one partition
+     * @param payload The serialized event
+     * @return Future completed when the broker acknowledges the record, or completed
+     *         exceptionally with OrderEventPublishException if the send was rejected or failed
      */
-    public void publishOrderEvent(Order order, String eventType) {
+    public CompletableFuture<SendResult<String, byte[]>> publishAsync(String key, byte[] payload) {
+        if (!acquireSlot()) {
+            rejectedCounter.increment();
+            return CompletableFuture.failedFuture(
+                new OrderEventPublishException("Order event producer in-flight limit reached"));
+        }
+
+        CompletableFuture<SendResult<String, byte[]>> future;
+        Timer.Sample sample = Timer.start();
         try {
-            // Create an event object with metadata
-            OrderEvent event = OrderEvent.builder()
-                .orderId(order.getId())
-                .eventType(eventType)
-                .orderData(order)
-                .timestamp(LocalDateTime.now())
-                .build();
-
-            // Convert to JSON
-            String eventJson = objectMapper.writeValueAsString(event);
-
-            // Publish to Kafka
-            kafkaTemplate.send("order-events", String.valueOf(order.getId()), eventJson);
-            
-            log.info("Published {} event for order ID: {}", eventType, order.getId());
-        } catch (Exception e) {
-            log.error("Failed to publish order event: {}", e.getMessage(), e);
-            throw new OrderEventPublishException("Failed to publish order event", e);
+            future = kafkaTemplate.send(KafkaTopicConfig.ORDER_TOPIC, key, payload);
+        } catch (RuntimeException e) {
+            // send() can fail synchronously, e.g. when metadata or buffer space is unavailable
+            inFlight.release();
+            failedCounter.increment();
+            log.error("Failed to publish order event for key {}: {}", key, e.getMessage(), e);
+            return CompletableFuture.failedFuture(
+                new OrderEventPublishException("Failed to publish order event", e));
         }
+
+        return future.whenComplete((result, ex) -> {
+            inFlight.release();
+            sample.stop(ex == null ? ackTimer : failedAckTimer);
+            if (ex == null) {
+                sentCounter.increment();
+                log.debug("Published order event for key {} to partition {} at offset {}",
+                    key, result.getRecordMetadata().partition(), result.getRecordMetadata().offset());
+            } else {
+                failedCounter.increment();
+                log.error("Failed to publish order event for key {}: {}", key, ex.getMessage(), ex);
+            }
+        });
+    }
+
+    /**
+     * Transmits all buffered records immediately instead of waiting for linger.ms.
+     * Called after a batch of sends has been issued.
+     */
+    public void flush() {
+        kafkaTemplate.flush();
+    }
+
+    /**
+     * Acquires an in-flight slot according to the configured backpressure mode.
+     *
+     * @return true if a slot was acquired
+     */
+    private boolean acquireSlot() {
+        if (backpressureMode == BackpressureMode.FAIL_FAST) {
+            return inFlight.tryAcquire();
+        }
+        try {
+            return inFlight.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Counter sendCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("orderpulse.kafka.producer.sends")
+            .description("Order event sends by outcome")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private static Timer ackTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("orderpulse.kafka.producer.ack")
+            .description("Time from sending an order event until the broker acknowledges it")
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
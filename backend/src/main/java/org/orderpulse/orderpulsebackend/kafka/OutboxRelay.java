@@ -0,0 +1,97 @@
+package org.orderpulse.orderpulsebackend.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.orderpulse.orderpulsebackend.entity.OutboxEvent;
+import org.orderpulse.orderpulsebackend.exception.OrderEventPublishException;
+import org.orderpulse.orderpulsebackend.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Background relay that drains the outbox table to the order-events topic.
+ *
+ * Each batch is handled in its own transaction:
+ * 1. Claim the oldest pending rows (FOR UPDATE SKIP LOCKED)
+ * 2. Send all of them to Kafka without waiting in between, then flush once
+ * 3. Wait once for every acknowledgement, then delete the rows
+ *
+ * If any send fails the transaction rolls back and the whole batch is retried on the
+ * next run, so delivery is at-least-once and per-order ordering is preserved.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderProducer orderProducer;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${orderpulse.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${orderpulse.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OrderProducer orderProducer,
+                       PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.orderProducer = orderProducer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Relays pending events until the outbox is empty or a batch fails.
+     * Runs with a fixed delay, so a slow broker never causes overlapping runs.
+     */
+    @Scheduled(fixedDelayString = "${orderpulse.outbox.poll-interval-ms:200}")
+    public void relayPendingEvents() {
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed != null && relayed == batchSize);
+        } catch (Exception e) {
+            log.error("Outbox relay failed, batch will be retried: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Publishes one batch of outbox events and removes them once acknowledged.
+     *
+     * @return Number of events relayed
+     */
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        CompletableFuture<?>[] sends = batch.stream()
+            .map(event -> orderProducer.publishAsync(event.getAggregateId(), event.getPayload()))
+            .toArray(CompletableFuture[]::new);
+        orderProducer.flush();
+
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderEventPublishException("Interrupted while relaying outbox batch", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new OrderEventPublishException("Failed to relay outbox batch", e);
+        }
+
+        outboxEventRepository.deleteAllInBatch(batch);
+        log.debug("Relayed {} outbox events", batch.size());
+        return batch.size();
+    }
+}
@@ -1,14 +1,23 @@
 package org.orderpulse.orderpulsebackend.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.orderpulse.orderpulsebackend.dto.OrderSummary;
 import org.orderpulse.orderpulsebackend.entity.Order;
 import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Order entity.
@@ -16,13 +25,54 @@ import java.util.List;
  *
  * Spring Data JPA will automatically implement this interface at runtime,
  * creating the necessary database queries based on method names.
+ *
+ * Listing and export queries select OrderSummary projections rather than entities:
+ * only the listed columns are read (line items are never loaded) and nothing is added
+ * to the persistence context.
  */
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     /**
-     * Find orders by customer name (case-insensitive partial match)
+     * Find an order together with its line items in a single query.
+     */
+    @EntityGraph(attributePaths = "items")
+    Optional<Order> findWithItemsById(Long id);
+
+    /**
+     * Reads only an order's status.
+     *
+     * @param id The order ID
+     * @return The current status, or empty if the order does not exist
+     */
+    @Query("SELECT o.status FROM Order o WHERE o.id = :id")
+    Optional<OrderStatus> findStatusById(Long id);
+
+    /**
+     * Changes an order's status in one statement, but only if its current status is one of
+     * the allowed previous statuses. Increments the version like an optimistic-locking
+     * update would, and returns the updated row, so no prior SELECT is needed.
+     * Bypasses auditing, hence the explicit updatedAt.
+     *
+     * @param id The order to update
+     * @param newStatus Name of the status to set
+     * @param allowedPrevious Names of the statuses the order may currently have
+     * @param updatedAt The new last-modified time
+     * @return The updated order, or empty if the order does not exist or its status is not allowed
+     */
+    @Query(value = "UPDATE orders SET status = :newStatus, version = version + 1, updated_at = :updatedAt " +
+                   "WHERE id = :id AND status IN (:allowedPrevious) " +
+                   "RETURNING id, customer_name, total_amount, status, created_at, updated_at, notes, version",
+           nativeQuery = true)
+    Optional<Order> updateStatus(Long id, String newStatus, Collection<String> allowedPrevious, LocalDateTime updatedAt);
+
+    /**
+     * Find orders by customer name (case-insensitive partial match).
+     * Written against lower(customer_name) so PostgreSQL can use the trigram index
+     * idx_orders_customer_name_trgm; the order search index (OrderSearchIndex) remains
+     * the better fit for customer search.
      */
+    @Query("SELECT o FROM Order o WHERE lower(o.customerName) LIKE lower(concat('%', :customerName, '%'))")
     List<Order> findByCustomerNameContainingIgnoreCase(String customerName);
 
     /**
@@ -44,4 +94,77 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     @Query("SELECT o FROM Order o WHERE o.status = :status AND o.totalAmount >= :minAmount")
     List<Order> findOrdersByStatusAndMinAmount(OrderStatus status, BigDecimal minAmount);
+
+    /**
+     * Streams every order in ID order for bulk export.
+     * The fetch size makes the PostgreSQL driver read through a server-side cursor
+     * instead of buffering the whole result set. Must be consumed inside a transaction
+     * and closed afterwards.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(OrderSummary.SELECT + "FROM Order o ORDER BY o.id")
+    Stream<OrderSummary> streamAll();
+
+    /**
+     * Streams every order with a status in ID order for bulk export.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(OrderSummary.SELECT + "FROM Order o WHERE o.status = :status ORDER BY o.id")
+    Stream<OrderSummary> streamByStatus(OrderStatus status);
+
+    /**
+     * Summaries of the orders with the given IDs, in no particular order.
+     */
+    @Query(OrderSummary.SELECT + "FROM Order o WHERE o.id IN :ids")
+    List<OrderSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    /**
+     * First page of orders with a status, ordered by (createdAt, id).
+     * The page size is taken from the pageable; no count query is issued.
+     */
+    @Query(OrderSummary.SELECT + "FROM Order o WHERE o.status = :status ORDER BY o.createdAt, o.id")
+    List<OrderSummary> findFirstPageByStatus(OrderStatus status, Pageable pageable);
+
+    /**
+     * Keyset page of orders with a status, starting strictly after (createdAt, id).
+     * The row-value comparison lets PostgreSQL seek directly into a (status, created_at, id) index.
+     */
+    @Query(OrderSummary.SELECT + "FROM Order o WHERE o.status = :status " +
+           "AND (o.createdAt, o.id) > (:createdAt, :id) ORDER BY o.createdAt, o.id")
+    List<OrderSummary> findNextPageByStatus(OrderStatus status, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    /**
+     * First page of a customer's orders, ordered by (createdAt, id).
+     */
+    @Query(OrderSummary.SELECT + "FROM Order o WHERE o.customerName = :customerName ORDER BY o.createdAt, o.id")
+    List<OrderSummary> findFirstPageByCustomer(String customerName, Pageable pageable);
+
+    /**
+     * Keyset page of a customer's orders, starting strictly after (createdAt, id).
+     */
+    @Query(OrderSummary.SELECT + "FROM Order o WHERE o.customerName = :customerName " +
+           "AND (o.createdAt, o.id) > (:createdAt, :id) ORDER BY o.createdAt, o.id")
+    List<OrderSummary> findNextPageByCustomer(String customerName, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    /**
+     * First page of orders containing a SKU, ordered by (createdAt, id).
+     * The semi-join is served by idx_order_items_sku.
+     */
+    @Query(OrderSummary.SELECT + "FROM Order o WHERE EXISTS " +
+           "(SELECT 1 FROM OrderItem i WHERE i.order = o AND i.sku = :sku) ORDER BY o.createdAt, o.id")
+    List<OrderSummary> findFirstPageBySku(String sku, Pageable pageable);
+
+    /**
+     * Keyset page of orders containing a SKU, starting strictly after (createdAt, id).
+     */
+    @Query(OrderSummary.SELECT + "FROM Order o WHERE EXISTS " +
+           "(SELECT 1 FROM OrderItem i WHERE i.order = o AND i.sku = :sku) " +
+           "AND (o.createdAt, o.id) > (:createdAt, :id) ORDER BY o.createdAt, o.id")
+    List<OrderSummary> findNextPageBySku(String sku, LocalDateTime createdAt, Long id, Pageable pageable);
 }
\ No newline at end of file
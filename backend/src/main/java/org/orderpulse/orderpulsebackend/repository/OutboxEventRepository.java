@@ -0,0 +1,28 @@
+package org.orderpulse.orderpulsebackend.repository;
+
+import org.orderpulse.orderpulsebackend.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for OutboxEvent entity.
+ * Used by the outbox relay to claim and remove pending order events.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the oldest pending events for relaying.
+     * SKIP LOCKED lets several application instances drain the outbox concurrently
+     * without blocking on, or double-publishing, each other's rows.
+     *
+     * @param limit Maximum number of events to claim
+     * @return Claimed events in insertion order
+     */
+    @Query(value = "SELECT * FROM outbox_events ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(int limit);
+}
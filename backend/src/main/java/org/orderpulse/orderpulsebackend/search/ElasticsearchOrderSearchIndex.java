@@ -0,0 +1,310 @@
+package org.orderpulse.orderpulsebackend.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.orderpulse.orderpulsebackend.dto.OrderSearchRequest;
+import org.orderpulse.orderpulsebackend.dto.SearchPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Order search index in Elasticsearch.
+ *
+ * Searches go through an alias (orderpulse.search.index) pointing at one concrete index.
+ * Live writes go to every index behind a second alias, {@code <index>-write}; each instance
+ * resolves its members and re-reads them every orderpulse.search.write-targets-ttl.
+ *
+ * A rebuild creates a new timestamped index and adds it to the write alias, then waits until
+ * every instance has picked it up before the caller starts copying orders. Updates indexed by any
+ * instance from then on reach both indexes. The commit swaps the read alias atomically and drops
+ * the old index from the write alias; the old index is deleted only after another wait, so a late
+ * write from another instance cannot recreate it. Searches never see a partial index.
+ *
+ * Documents use external versioning (see OrderDocument); writes rejected as stale are ignored.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "orderpulse.search.mode", havingValue = "elasticsearch", matchIfMissing = true)
+public class ElasticsearchOrderSearchIndex implements OrderSearchIndex {
+
+    private static final DateTimeFormatter INDEX_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    private final ElasticsearchOperations operations;
+    private final String alias;
+    private final IndexCoordinates aliasCoordinates;
+    private final String writeAlias;
+    private final IndexCoordinates writeAliasCoordinates;
+    private final long writeTargetsTtlNanos;
+    private volatile boolean indexReady;
+    private volatile WriteTargets writeTargets;
+
+    public ElasticsearchOrderSearchIndex(ElasticsearchOperations operations,
+                                         @Value("${orderpulse.search.index:orders}") String alias,
+                                         @Value("${orderpulse.search.write-targets-ttl:2s}") Duration writeTargetsTtl) {
+        this.operations = operations;
+        this.alias = alias;
+        this.aliasCoordinates = IndexCoordinates.of(alias);
+        this.writeAlias = alias + "-write";
+        this.writeAliasCoordinates = IndexCoordinates.of(writeAlias);
+        this.writeTargetsTtlNanos = writeTargetsTtl.toNanos();
+    }
+
+    @Override
+    public void save(List<OrderDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        ensureIndex();
+        List<IndexQuery> queries = toIndexQueries(documents);
+        for (IndexCoordinates target : writeTargets()) {
+            bulkIndex(queries, target);
+        }
+    }
+
+    @Override
+    public void delete(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        ensureIndex();
+        DeleteQuery query = DeleteQuery.builder(new CriteriaQuery(Criteria.where("id").in(orderIds))).build();
+        for (IndexCoordinates target : writeTargets()) {
+            operations.delete(query, OrderDocument.class, target);
+        }
+    }
+
+    @Override
+    public SearchPage<OrderDocument> search(OrderSearchRequest request) {
+        ensureIndex();
+        Criteria criteria = new Criteria();
+        boolean fullText = false;
+        if (hasText(request.getCustomer())) {
+            criteria = criteria.and(Criteria.where("customerName").matchesAll(request.getCustomer()));
+            fullText = true;
+        }
+        if (hasText(request.getDescription())) {
+            criteria = criteria.and(Criteria.where("description").matchesAll(request.getDescription()));
+            fullText = true;
+        }
+        if (request.getStatus() != null) {
+            criteria = criteria.and(Criteria.where("status").is(request.getStatus()));
+        }
+        if (request.getMinAmount() != null) {
+            criteria = criteria.and(Criteria.where("totalAmount").greaterThanEqual(request.getMinAmount().doubleValue()));
+        }
+        if (request.getMaxAmount() != null) {
+            criteria = criteria.and(Criteria.where("totalAmount").lessThanEqual(request.getMaxAmount().doubleValue()));
+        }
+
+        CriteriaQuery query = new CriteriaQuery(criteria, PageRequest.of(request.getPage(), request.getSize()));
+        if (!fullText) {
+            query.addSort(Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        }
+        SearchHits<OrderDocument> hits = operations.search(query, OrderDocument.class, aliasCoordinates);
+        return new SearchPage<>(
+            hits.getSearchHits().stream().map(SearchHit::getContent).toList(),
+            hits.getTotalHits(),
+            request.getPage(),
+            request.getSize());
+    }
+
+    @Override
+    public synchronized Rebuild beginRebuild() {
+        ensureIndex();
+        Set<String> current = resolveWriteTargets();
+        if (current.size() > 1) {
+            throw new IllegalStateException("A rebuild is already in progress");
+        }
+        IndexCoordinates target = IndexCoordinates.of(alias + "-" + LocalDateTime.now().format(INDEX_SUFFIX));
+        createIndex(target);
+        updateAliases(new AliasActions(addAlias(writeAlias, target.getIndexName())));
+        log.info("Rebuilding order search index into {}", target.getIndexName());
+        try {
+            awaitWriteTargetsRefresh();
+        } catch (RuntimeException e) {
+            discard(target);
+            throw e;
+        }
+
+        return new Rebuild() {
+            @Override
+            public void save(List<OrderDocument> documents) {
+                bulkIndex(toIndexQueries(documents), target);
+            }
+
+            @Override
+            public void commit() {
+                operations.indexOps(target).refresh();
+                Set<String> previous = operations.indexOps(aliasCoordinates).getAliases(alias).keySet();
+                AliasActions actions = new AliasActions(addAlias(alias, target.getIndexName()));
+                if (!previous.isEmpty()) {
+                    String[] indices = previous.toArray(String[]::new);
+                    actions.add(new AliasAction.Remove(
+                        AliasActionParameters.builder().withIndices(indices).withAliases(alias, writeAlias).build()));
+                }
+                updateAliases(actions);
+                log.info("Order search index {} is live, replaced {}", target.getIndexName(), previous);
+                awaitWriteTargetsRefresh();
+                previous.forEach(index -> operations.indexOps(IndexCoordinates.of(index)).delete());
+            }
+
+            @Override
+            public void abort() {
+                discard(target);
+            }
+        };
+    }
+
+    /**
+     * Takes an unfinished rebuild index out of the write alias and deletes it once no instance writes to it.
+     */
+    private void discard(IndexCoordinates target) {
+        updateAliases(new AliasActions(new AliasAction.Remove(
+            AliasActionParameters.builder().withIndices(target.getIndexName()).withAliases(writeAlias).build())));
+        try {
+            awaitWriteTargetsRefresh();
+        } finally {
+            operations.indexOps(target).delete();
+        }
+    }
+
+    /**
+     * Indexes that receive live writes, re-resolved from the write alias once the cached set expires.
+     */
+    private List<IndexCoordinates> writeTargets() {
+        WriteTargets cached = writeTargets;
+        long now = System.nanoTime();
+        if (cached != null && now - cached.resolvedAtNanos() < writeTargetsTtlNanos) {
+            return cached.indices();
+        }
+        List<IndexCoordinates> indices = resolveWriteTargets().stream().map(IndexCoordinates::of).toList();
+        writeTargets = new WriteTargets(indices, now);
+        return indices;
+    }
+
+    private Set<String> resolveWriteTargets() {
+        return operations.indexOps(writeAliasCoordinates).getAliases(writeAlias).keySet();
+    }
+
+    /**
+     * Applies alias changes and drops this instance's cached write targets.
+     */
+    private void updateAliases(AliasActions actions) {
+        operations.indexOps(aliasCoordinates).alias(actions);
+        writeTargets = null;
+    }
+
+    /**
+     * Waits until every instance has re-read the write alias. Twice the TTL also covers a bulk
+     * request that resolved its targets just before the change.
+     */
+    private void awaitWriteTargetsRefresh() {
+        try {
+            Thread.sleep(Duration.ofNanos(2 * writeTargetsTtlNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for search index write targets to refresh", e);
+        }
+    }
+
+    /**
+     * Creates the initial index behind the aliases on first use.
+     * The initial index has a fixed name, so instances starting together converge on the same one.
+     * An index created before the write alias existed is added to it.
+     */
+    private void ensureIndex() {
+        if (indexReady) {
+            return;
+        }
+        synchronized (this) {
+            if (indexReady) {
+                return;
+            }
+            if (!operations.indexOps(aliasCoordinates).exists()) {
+                IndexCoordinates initial = IndexCoordinates.of(alias + "-initial");
+                if (!operations.indexOps(initial).exists()) {
+                    createIndex(initial);
+                }
+                operations.indexOps(initial).alias(new AliasActions(
+                    addAlias(alias, initial.getIndexName()), addAlias(writeAlias, initial.getIndexName())));
+            } else if (!operations.indexOps(writeAliasCoordinates).exists()) {
+                String[] live = operations.indexOps(aliasCoordinates).getAliases(alias).keySet().toArray(String[]::new);
+                operations.indexOps(aliasCoordinates).alias(new AliasActions(new AliasAction.Add(
+                    AliasActionParameters.builder().withIndices(live).withAliases(writeAlias).build())));
+            }
+            indexReady = true;
+        }
+    }
+
+    private static AliasAction addAlias(String aliasName, String index) {
+        return new AliasAction.Add(AliasActionParameters.builder().withIndices(index).withAliases(aliasName).build());
+    }
+
+    private void createIndex(IndexCoordinates index) {
+        Document mapping = operations.indexOps(OrderDocument.class).createMapping();
+        IndexOperations indexOps = operations.indexOps(index);
+        indexOps.create(Map.of(), mapping);
+    }
+
+    /**
+     * Bulk-indexes documents, ignoring writes rejected because a newer version is already indexed.
+     */
+    private void bulkIndex(List<IndexQuery> queries, IndexCoordinates index) {
+        if (queries.isEmpty()) {
+            return;
+        }
+        try {
+            operations.bulkIndex(queries, index);
+        } catch (BulkFailureException e) {
+            boolean onlyConflicts = e.getFailedDocuments().values().stream()
+                .allMatch(failure -> failure.status() != null && failure.status() == HttpStatus.CONFLICT.value());
+            if (!onlyConflicts) {
+                throw e;
+            }
+            log.debug("Skipped {} stale order documents", e.getFailedDocuments().size());
+        }
+    }
+
+    private static List<IndexQuery> toIndexQueries(List<OrderDocument> documents) {
+        return documents.stream()
+            .map(document -> new IndexQueryBuilder()
+                .withId(String.valueOf(document.getId()))
+                .withObject(document)
+                .withVersion(document.getVersion())
+                .build())
+            .toList();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private record WriteTargets(List<IndexCoordinates> indices, long resolvedAtNanos) {
+    }
+}
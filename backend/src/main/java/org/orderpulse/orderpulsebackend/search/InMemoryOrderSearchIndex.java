@@ -0,0 +1,135 @@
+package org.orderpulse.orderpulsebackend.search;
+
+import org.orderpulse.orderpulsebackend.dto.OrderSearchRequest;
+import org.orderpulse.orderpulsebackend.dto.SearchPage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-process order search index, a stand-in for Elasticsearch in tests and local development.
+ * Full-text criteria match when every word of the query occurs in the field (case-insensitive);
+ * results are ordered newest first rather than by relevance.
+ */
+@Component
+@ConditionalOnProperty(name = "orderpulse.search.mode", havingValue = "local")
+public class InMemoryOrderSearchIndex implements OrderSearchIndex {
+
+    private volatile Map<Long, OrderDocument> documents = new ConcurrentHashMap<>();
+    private volatile Map<Long, OrderDocument> rebuilding;
+
+    @Override
+    public void save(List<OrderDocument> batch) {
+        Map<Long, OrderDocument> target = rebuilding;
+        batch.forEach(document -> {
+            put(documents, document);
+            if (target != null) {
+                put(target, document);
+            }
+        });
+    }
+
+    @Override
+    public void delete(Collection<Long> orderIds) {
+        Map<Long, OrderDocument> target = rebuilding;
+        orderIds.forEach(id -> {
+            documents.remove(id);
+            if (target != null) {
+                target.remove(id);
+            }
+        });
+    }
+
+    @Override
+    public SearchPage<OrderDocument> search(OrderSearchRequest request) {
+        Predicate<OrderDocument> filter = matchesAllWords(request.getCustomer(), OrderDocument::getCustomerName)
+            .and(matchesAllWords(request.getDescription(), OrderDocument::getDescription))
+            .and(document -> request.getStatus() == null || request.getStatus() == document.getStatus())
+            .and(document -> inRange(document.getTotalAmount(), request.getMinAmount(), request.getMaxAmount()));
+
+        List<OrderDocument> matches = documents.values().stream()
+            .filter(filter)
+            .sorted(Comparator.comparing(OrderDocument::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(OrderDocument::getId, Comparator.reverseOrder()))
+            .toList();
+
+        int from = Math.min(matches.size(), request.getPage() * request.getSize());
+        int to = Math.min(matches.size(), from + request.getSize());
+        return new SearchPage<>(matches.subList(from, to), matches.size(), request.getPage(), request.getSize());
+    }
+
+    @Override
+    public synchronized Rebuild beginRebuild() {
+        if (rebuilding != null) {
+            throw new IllegalStateException("A rebuild is already in progress");
+        }
+        Map<Long, OrderDocument> target = new ConcurrentHashMap<>();
+        rebuilding = target;
+        return new Rebuild() {
+            @Override
+            public void save(List<OrderDocument> batch) {
+                batch.forEach(document -> put(target, document));
+            }
+
+            @Override
+            public void commit() {
+                synchronized (InMemoryOrderSearchIndex.this) {
+                    documents = target;
+                    rebuilding = null;
+                }
+            }
+
+            @Override
+            public void abort() {
+                synchronized (InMemoryOrderSearchIndex.this) {
+                    rebuilding = null;
+                }
+            }
+        };
+    }
+
+    /**
+     * Stores a document unless a newer version is already present.
+     */
+    private static void put(Map<Long, OrderDocument> target, OrderDocument document) {
+        target.merge(document.getId(), document, (current, incoming) ->
+            current.getVersion() != null && incoming.getVersion() != null
+                && current.getVersion() > incoming.getVersion() ? current : incoming);
+    }
+
+    private static Predicate<OrderDocument> matchesAllWords(String query,
+                                                           Function<OrderDocument, String> field) {
+        if (query == null || query.isBlank()) {
+            return document -> true;
+        }
+        List<String> words = Arrays.asList(query.toLowerCase(Locale.ROOT).trim().split("\\s+"));
+        return document -> {
+            String value = field.apply(document);
+            if (value == null) {
+                return false;
+            }
+            String text = value.toLowerCase(Locale.ROOT);
+            return words.stream().allMatch(text::contains);
+        };
+    }
+
+    private static boolean inRange(Double amount, BigDecimal min, BigDecimal max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        if (amount == null) {
+            return false;
+        }
+        return (min == null || amount >= min.doubleValue()) && (max == null || amount <= max.doubleValue());
+    }
+}
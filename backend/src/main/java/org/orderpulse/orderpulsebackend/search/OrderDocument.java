@@ -0,0 +1,78 @@
+package org.orderpulse.orderpulsebackend.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.orderpulse.orderpulsebackend.dto.OrderSummary;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+
+import java.time.LocalDateTime;
+
+/**
+ * Search index representation of an order.
+ * Holds every field of OrderResponse, so search results are served without touching PostgreSQL.
+ *
+ * Documents are written with external versioning (the order's optimistic-locking version),
+ * so a stale write, e.g. from a reindex racing a live update, never replaces a newer one.
+ * The index itself is managed by ElasticsearchOrderSearchIndex, not created from this class.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(indexName = "orders", createIndex = false, versionType = Document.VersionType.EXTERNAL_GTE)
+public class OrderDocument {
+
+    @Id
+    @Field(type = FieldType.Long)
+    private Long id;
+
+    @MultiField(
+        mainField = @Field(type = FieldType.Text),
+        otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+    )
+    private String customerName;
+
+    @Field(type = FieldType.Text)
+    private String description;
+
+    @Field(type = FieldType.Keyword)
+    private OrderStatus status;
+
+    @Field(type = FieldType.Scaled_Float, scalingFactor = 100)
+    private Double totalAmount;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+    private LocalDateTime createdAt;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    /**
+     * Creates the document for an order.
+     */
+    public static OrderDocument from(OrderSummary order) {
+        return OrderDocument.builder()
+                .id(order.id())
+                .customerName(order.customerName())
+                .description(order.notes())
+                .status(order.status())
+                .totalAmount(order.totalAmount() == null ? null : order.totalAmount().doubleValue())
+                .createdAt(order.createdAt())
+                .updatedAt(order.updatedAt())
+                .version(order.version())
+                .build();
+    }
+}
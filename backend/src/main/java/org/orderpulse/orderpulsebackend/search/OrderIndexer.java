@@ -0,0 +1,87 @@
+package org.orderpulse.orderpulsebackend.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.orderpulse.orderpulsebackend.config.KafkaTopicConfig;
+import org.orderpulse.orderpulsebackend.dto.OrderSummary;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.orderpulse.orderpulsebackend.event.OrderEventType;
+import org.orderpulse.orderpulsebackend.repository.OrderRepository;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the order search index up to date from the order-events topic.
+ *
+ * Runs in its own consumer group (orderpulse.search.consumer-group), so every event is indexed
+ * once across the cluster, independently of OrderConsumerService. Each poll is applied as one
+ * bulk request: events are collapsed per order, the surviving orders are loaded from PostgreSQL
+ * in a single summary query (events do not carry every searchable field) and indexed together.
+ * Offsets are committed after the batch is indexed; a failed batch is retried.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderIndexer {
+
+    private final OrderSearchIndex orderSearchIndex;
+    private final OrderRepository orderRepository;
+
+    /**
+     * Indexes the orders changed by one poll of order events.
+     *
+     * @param records The records returned by one poll
+     */
+    @KafkaListener(
+        id = "orderSearchIndexer",
+        topics = KafkaTopicConfig.ORDER_TOPIC,
+        groupId = "${orderpulse.search.consumer-group:orderpulse-search-indexer}",
+        containerFactory = "orderBatchKafkaListenerContainerFactory"
+    )
+    public void onOrderEvents(List<ConsumerRecord<String, OrderEvent>> records) {
+        // Last event type per order; a deletion is final
+        Map<Long, OrderEventType> changes = new LinkedHashMap<>();
+        for (ConsumerRecord<String, OrderEvent> record : records) {
+            OrderEvent event = record.value();
+            if (event == null || event.getOrderId() == null || event.getType() == null) {
+                continue;
+            }
+            changes.merge(event.getOrderId(), event.getType(),
+                (current, incoming) -> current == OrderEventType.DELETE ? current : incoming);
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Set<Long> deleted = new HashSet<>();
+        List<Long> changed = new ArrayList<>();
+        changes.forEach((orderId, type) -> {
+            if (type == OrderEventType.DELETE) {
+                deleted.add(orderId);
+            } else {
+                changed.add(orderId);
+            }
+        });
+
+        List<OrderDocument> documents = new ArrayList<>(changed.size());
+        Set<Long> missing = new HashSet<>(changed);
+        for (OrderSummary order : orderRepository.findSummariesByIdIn(changed)) {
+            documents.add(OrderDocument.from(order));
+            missing.remove(order.id());
+        }
+        // Orders deleted after the event was published are removed from the index as well
+        deleted.addAll(missing);
+
+        orderSearchIndex.save(documents);
+        orderSearchIndex.delete(deleted);
+        log.debug("Indexed {} orders, removed {} from the search index", documents.size(), deleted.size());
+    }
+}
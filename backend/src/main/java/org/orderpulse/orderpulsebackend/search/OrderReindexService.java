@@ -0,0 +1,107 @@
+package org.orderpulse.orderpulsebackend.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.orderpulse.orderpulsebackend.service.OrderService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rebuilds the order search index from PostgreSQL.
+ *
+ * Orders are streamed through the export cursor (OrderService.exportOrders) into a new index
+ * in batches of orderpulse.search.reindex.batch-size, which then replaces the live index.
+ * Live indexing continues meanwhile and is applied to both indexes by every instance, since
+ * orders are only read once beginRebuild has returned. Runs in the background, one rebuild
+ * at a time; the index rejects a second rebuild started elsewhere.
+ */
+@Slf4j
+@Service
+public class OrderReindexService {
+
+    private final OrderSearchIndex orderSearchIndex;
+    private final OrderService orderService;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "order-reindex");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OrderReindexService(OrderSearchIndex orderSearchIndex,
+                               OrderService orderService,
+                               @Value("${orderpulse.search.reindex.batch-size:1000}") int batchSize) {
+        this.orderSearchIndex = orderSearchIndex;
+        this.orderService = orderService;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Starts a rebuild in the background.
+     *
+     * @return false if a rebuild is already running on this instance
+     */
+    public boolean startReindex() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.execute(() -> {
+            try {
+                reindex();
+            } catch (RuntimeException e) {
+                log.error("Order search reindex failed: {}", e.getMessage(), e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Whether a rebuild is running on this instance.
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Rebuilds the index synchronously.
+     *
+     * @return Number of orders indexed
+     */
+    public long reindex() {
+        OrderSearchIndex.Rebuild rebuild = orderSearchIndex.beginRebuild();
+        List<OrderDocument> batch = new ArrayList<>(batchSize);
+        long[] indexed = {0};
+        try {
+            orderService.exportOrders(null, order -> {
+                batch.add(OrderDocument.from(order));
+                if (batch.size() >= batchSize) {
+                    rebuild.save(batch);
+                    indexed[0] += batch.size();
+                    batch.clear();
+                }
+            });
+            rebuild.save(batch);
+            indexed[0] += batch.size();
+            rebuild.commit();
+        } catch (RuntimeException e) {
+            rebuild.abort();
+            throw e;
+        }
+        log.info("Order search index rebuilt with {} orders", indexed[0]);
+        return indexed[0];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,67 @@
+package org.orderpulse.orderpulsebackend.search;
+
+import org.orderpulse.orderpulsebackend.dto.OrderSearchRequest;
+import org.orderpulse.orderpulsebackend.dto.SearchPage;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Full-text index of orders, kept up to date from the order-events topic by OrderIndexer
+ * and rebuildable from PostgreSQL by OrderReindexService.
+ *
+ * Implementations (orderpulse.search.mode):
+ * - elasticsearch: ElasticsearchOrderSearchIndex
+ * - local: InMemoryOrderSearchIndex, a stand-in for tests and local development
+ *
+ * Writes are versioned: a document is only replaced by one with an equal or higher version.
+ */
+public interface OrderSearchIndex {
+
+    /**
+     * Indexes or replaces documents in bulk.
+     */
+    void save(List<OrderDocument> documents);
+
+    /**
+     * Removes documents by order ID.
+     */
+    void delete(Collection<Long> orderIds);
+
+    /**
+     * Searches orders. Results are ordered by relevance for full-text criteria,
+     * otherwise newest first.
+     *
+     * @param request Search criteria and page (size is expected to be clamped by the caller)
+     * @return One page of matching documents
+     */
+    SearchPage<OrderDocument> search(OrderSearchRequest request);
+
+    /**
+     * Starts building a replacement index. Live writes keep going to the current index
+     * and are copied to the new one until it is committed, on every instance sharing the index.
+     * Returns once that holds, so orders read afterwards cannot miss a later update.
+     */
+    Rebuild beginRebuild();
+
+    /**
+     * A replacement index being filled.
+     */
+    interface Rebuild {
+
+        /**
+         * Adds documents to the new index.
+         */
+        void save(List<OrderDocument> documents);
+
+        /**
+         * Atomically replaces the current index with the new one.
+         */
+        void commit();
+
+        /**
+         * Discards the new index, leaving the current one in place.
+         */
+        void abort();
+    }
+}
@@ -9,7 +9,6 @@ import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,13 +18,16 @@ import java.io.IOException;
 /**
  * Filter responsible for JWT-based authentication.
  * Intercepts incoming requests to validate JWT tokens and set up Spring Security context.
+ *
+ * Token validation, principal caching and the optional stateless mode live in
+ * JwtPrincipalResolver. Invalid or expired tokens leave the request unauthenticated,
+ * so protected endpoints reject it.
  */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final JwtPrincipalResolver jwtPrincipalResolver;
 
     @Override
     protected void doFilterInternal(
@@ -34,8 +36,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String username;
 
         // Skip if Authorization header is missing or not in Bearer format
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -43,26 +43,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Extract JWT token and username
-        jwt = authHeader.substring(7);
-        username = jwtService.extractUsername(jwt);
-
-        // Validate token and set up authentication if not already authenticated
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    userDetails,
-                    null,
-                    userDetails.getAuthorities()
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+        // Set up authentication if not already authenticated and the token is valid
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = jwtPrincipalResolver.resolve(authHeader.substring(7));
+            if (userDetails != null) {
+                authenticate(userDetails, request);
             }
         }
-        
+
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Sets up the security context for an authenticated principal.
+     */
+    private static void authenticate(UserDetails userDetails, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+            userDetails,
+            null,
+            userDetails.getAuthorities()
+        );
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+}
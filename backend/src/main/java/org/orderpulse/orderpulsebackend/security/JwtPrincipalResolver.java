@@ -0,0 +1,88 @@
+package org.orderpulse.orderpulsebackend.security;
+
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.orderpulse.orderpulsebackend.service.JwtService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the principal authenticated by a JWT.
+ * Shared by the HTTP filter (JwtAuthenticationFilter) and the STOMP CONNECT handler.
+ *
+ * Tokens that have been validated once are remembered in the PrincipalCache, so repeat
+ * requests with the same token skip both JWT parsing and the user lookup.
+ *
+ * With orderpulse.security.stateless-authorities enabled, tokens carrying a roles claim
+ * are authorized from their claims alone, without loading the user. This trades immediate
+ * effect of role changes and user deletion (applied only once the token expires) for
+ * never touching the database during authentication, so it is off by default.
+ */
+@Slf4j
+@Component
+public class JwtPrincipalResolver {
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final boolean statelessAuthorities;
+
+    public JwtPrincipalResolver(JwtService jwtService,
+                                UserDetailsService userDetailsService,
+                                PrincipalCache principalCache,
+                                @Value("${orderpulse.security.stateless-authorities:false}") boolean statelessAuthorities) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.statelessAuthorities = statelessAuthorities;
+    }
+
+    /**
+     * Resolves the principal for a raw token.
+     *
+     * @param jwt The raw JWT (without the "Bearer " prefix)
+     * @return The authenticated principal, or null if the token is invalid, expired
+     *         or belongs to an unknown user
+     */
+    public UserDetails resolve(String jwt) {
+        // Fast path: token already validated and its principal cached
+        UserDetails cached = principalCache.get(jwt);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Verify signature and expiry and read subject and roles in one parse
+        JwtService.VerifiedToken token;
+        try {
+            token = jwtService.verify(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected JWT: {}", e.getMessage());
+            return null;
+        }
+
+        UserDetails userDetails;
+        try {
+            userDetails = resolvePrincipal(token);
+        } catch (UsernameNotFoundException e) {
+            log.debug("Rejected JWT for unknown user {}", token.subject());
+            return null;
+        }
+        principalCache.put(jwt, userDetails, token.expiresAt());
+        return userDetails;
+    }
+
+    /**
+     * Builds the principal for a verified token: from its claims in stateless mode,
+     * otherwise by loading the user, which also rejects tokens of deleted users.
+     */
+    private UserDetails resolvePrincipal(JwtService.VerifiedToken token) {
+        if (statelessAuthorities && !token.authorities().isEmpty()) {
+            return new User(token.subject(), "", token.authorities());
+        }
+        return userDetailsService.loadUserByUsername(token.subject());
+    }
+}
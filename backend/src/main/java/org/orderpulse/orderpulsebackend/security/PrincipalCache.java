@@ -0,0 +1,116 @@
+package org.orderpulse.orderpulsebackend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Cache of validated JWTs and the principals they authenticate.
+ *
+ * Lets JwtAuthenticationFilter skip token parsing and the user lookup for tokens it has
+ * already accepted. Entries are keyed by the SHA-256 hash of the token, so raw tokens are
+ * never held in memory, and live for the configured TTL but never past the token's own
+ * expiry. UserCacheInvalidationListener clears the cache on every instance whenever a user
+ * changes, so role changes and deletions take effect on the next request.
+ */
+@Component
+public class PrincipalCache {
+
+    /**
+     * Redis pub/sub channel telling every instance to clear its principal cache.
+     */
+    public static final String INVALIDATION_CHANNEL = "orderpulse:security:principal-cache-invalidation";
+
+    /**
+     * Message published on the invalidation channel.
+     */
+    public static final String INVALIDATE_ALL = "*";
+
+    private final Cache<String, CachedPrincipal> principals;
+
+    public PrincipalCache(@Value("${orderpulse.security.principal-cache.maximum-size:10000}") long maximumSize,
+                          @Value("${orderpulse.security.principal-cache.ttl:5m}") Duration ttl) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(ttl))
+                .build();
+    }
+
+    /**
+     * Looks up the principal authenticated by a token.
+     *
+     * @param token The raw JWT
+     * @return The cached principal, or null if the token is not cached or has expired
+     */
+    public UserDetails get(String token) {
+        CachedPrincipal cached = principals.getIfPresent(hash(token));
+        if (cached == null || !cached.expiresAt().isAfter(Instant.now())) {
+            return null;
+        }
+        return cached.userDetails();
+    }
+
+    /**
+     * Caches the principal for a token that has just been validated.
+     *
+     * @param token The raw JWT
+     * @param userDetails The principal the token authenticates
+     * @param expiresAt The token's expiry
+     */
+    public void put(String token, UserDetails userDetails, Instant expiresAt) {
+        principals.put(hash(token), new CachedPrincipal(userDetails, expiresAt));
+    }
+
+    /**
+     * Drops every cached principal.
+     */
+    public void invalidateAll() {
+        principals.invalidateAll();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE is required to provide SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedPrincipal(UserDetails userDetails, Instant expiresAt) {
+    }
+
+    /**
+     * Expires entries after the TTL or at token expiry, whichever comes first.
+     */
+    private record TokenExpiry(Duration ttl) implements Expiry<String, CachedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+            Duration untilTokenExpiry = Duration.between(Instant.now(), value.expiresAt());
+            Duration lifetime = untilTokenExpiry.compareTo(ttl) < 0 ? untilTokenExpiry : ttl;
+            return Math.max(0, lifetime.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
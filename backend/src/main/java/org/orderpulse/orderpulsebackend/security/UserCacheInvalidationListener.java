@@ -0,0 +1,73 @@
+package org.orderpulse.orderpulsebackend.security;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.orderpulse.orderpulsebackend.entity.User;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that clears the PrincipalCache when a user is updated or deleted.
+ *
+ * The whole cache is cleared rather than one user's entries: user changes are rare, and a
+ * renamed user's old tokens could otherwise not be found. The cache is cleared right away
+ * and again after commit, so a request racing the transaction cannot re-cache the old state.
+ *
+ * In redis cache mode the post-commit clear is also published on
+ * {@link PrincipalCache#INVALIDATION_CHANNEL}, so every instance drops its cached principals
+ * (see CacheConfig). If the publish fails, other instances catch up when their entries expire
+ * after orderpulse.security.principal-cache.ttl.
+ */
+@Slf4j
+@Component
+public class UserCacheInvalidationListener {
+
+    private final PrincipalCache principalCache;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final boolean broadcast;
+
+    public UserCacheInvalidationListener(PrincipalCache principalCache,
+                                         ObjectProvider<StringRedisTemplate> redisTemplate,
+                                         @Value("${orderpulse.cache.mode:redis}") String cacheMode) {
+        this.principalCache = principalCache;
+        this.redisTemplate = redisTemplate;
+        this.broadcast = "redis".equals(cacheMode);
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        principalCache.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCache.invalidateAll();
+                    publish();
+                }
+            });
+        } else {
+            publish();
+        }
+    }
+
+    /**
+     * Tells the other instances to clear their principal caches.
+     */
+    private void publish() {
+        if (!broadcast) {
+            return;
+        }
+        try {
+            redisTemplate.ifAvailable(template ->
+                    template.convertAndSend(PrincipalCache.INVALIDATION_CHANNEL, PrincipalCache.INVALIDATE_ALL));
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast principal cache invalidation: {}", e.getMessage());
+        }
+    }
+}
@@ -7,7 +7,6 @@ import org.orderpulse.orderpulsebackend.dto.RegisterRequest;
 import org.orderpulse.orderpulsebackend.entity.Role;
 import org.orderpulse.orderpulsebackend.entity.User;
 import org.orderpulse.orderpulsebackend.repository.UserRepository;
-import org.orderpulse.orderpulsebackend.security.JwtService;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -39,7 +38,7 @@ public class AuthenticationService {
                 .role(Role.USER)
                 .build();
         userRepository.save(user);
-        var jwtToken = jwtService.generateToken(user);
+        var jwtToken = jwtService.generateToken(CustomUserDetailsService.toUserDetails(user));
         return AuthenticationResponse.builder()
                 .token(jwtToken)
                 .build();
@@ -60,7 +59,7 @@ public class AuthenticationService {
         );
         var user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow();
-        var jwtToken = jwtService.generateToken(user);
+        var jwtToken = jwtService.generateToken(CustomUserDetailsService.toUserDetails(user));
         return AuthenticationResponse.builder()
                 .token(jwtToken)
                 .build();
@@ -34,6 +34,17 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
+        return toUserDetails(user);
+    }
+
+    /**
+     * Converts a User entity to Spring Security's UserDetails.
+     * The role becomes a single ROLE_-prefixed authority.
+     *
+     * @param user The user entity
+     * @return UserDetails for the user
+     */
+    public static UserDetails toUserDetails(User user) {
         return new org.springframework.security.core.userdetails.User(
                 user.getUsername(),
                 user.getPassword(),
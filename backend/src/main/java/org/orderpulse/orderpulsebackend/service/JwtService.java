@@ -1,32 +1,80 @@
 package org.orderpulse.orderpulsebackend.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
 /**
  * Service class for handling JWT (JSON Web Token) operations.
  * Manages token generation, validation, and extraction of claims.
+ *
+ * The signing key and the parser are built once at startup and shared by all requests
+ * (both are immutable and thread-safe). Tokens carry the user's authorities in a
+ * "roles" claim, so {@link #verify(String)} can return everything needed for
+ * authorization from a single parse.
  */
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret-key}")
-    private String secretKey;
+    /**
+     * Claim holding the user's granted authorities (e.g. ROLE_USER).
+     */
+    public static final String ROLES_CLAIM = "roles";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+
+    public JwtService(@Value("${jwt.secret-key}") String secretKey,
+                      @Value("${jwt.expiration}") long jwtExpiration) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.jwtExpiration = jwtExpiration;
+    }
+
+    /**
+     * Result of verifying a token.
+     *
+     * @param subject The username the token was issued to
+     * @param expiresAt When the token expires
+     * @param authorities The authorities from the roles claim; empty for tokens issued without it
+     */
+    public record VerifiedToken(String subject, Instant expiresAt, List<GrantedAuthority> authorities) {
+    }
+
+    /**
+     * Verifies a token's signature and expiry and extracts its subject, expiry and
+     * authorities, parsing the token exactly once.
+     *
+     * @param token JWT token
+     * @return The verified token contents
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = extractAllClaims(token);
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            throw new JwtException("Token is missing subject or expiration");
+        }
+        return new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant(), authorities(claims));
+    }
 
     /**
      * Extracts the username from a JWT token.
@@ -52,18 +100,24 @@ public class JwtService {
 
     /**
      * Generates a JWT token for a user with additional claims.
+     * The user's authorities are added as the roles claim.
      *
      * @param userDetails User details
      * @param extraClaims Additional claims to include in token
      * @return Generated JWT token
      */
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        long now = System.currentTimeMillis();
         return Jwts.builder()
-                .setClaims(extraClaims)
+                .setClaims(claims)
                 .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + jwtExpiration))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -85,51 +139,37 @@ public class JwtService {
      * @return true if token is valid, false otherwise
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    /**
-     * Checks if a token has expired.
-     *
-     * @param token JWT token
-     * @return true if token is expired, false otherwise
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    /**
-     * Extracts the expiration date from a token.
-     *
-     * @param token JWT token
-     * @return Expiration date
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        try {
+            return verify(token).subject().equals(userDetails.getUsername());
+        } catch (JwtException e) {
+            return false;
+        }
     }
 
     /**
      * Extracts all claims from a token.
+     * The parser rejects expired tokens and invalid signatures.
      *
      * @param token JWT token
      * @return All claims in the token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
-     * Gets the signing key for JWT operations.
+     * Reads the roles claim.
      *
-     * @return The signing key
+     * @param claims Token claims
+     * @return Granted authorities, empty if the claim is absent
      */
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static List<GrantedAuthority> authorities(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        if (!(roles instanceof Collection<?> values)) {
+            return List.of();
+        }
+        return values.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package org.orderpulse.orderpulsebackend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.orderpulse.orderpulsebackend.config.CacheConfig;
+import org.orderpulse.orderpulsebackend.entity.Order;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the order cache in line with order events received from Kafka.
+ *
+ * Events carry an order summary rather than the full entity, so stale entries are
+ * evicted instead of overwritten: an entry is dropped only when the event's
+ * orderVersion is strictly newer than the cached Order.version, so a late event never
+ * evicts fresher data. The read-through cache reloads evicted orders on demand.
+ */
+@Slf4j
+@Service
+public class OrderCacheService {
+
+    private final Cache ordersCache;
+
+    public OrderCacheService(CacheManager cacheManager) {
+        this.ordersCache = cacheManager.getCache(CacheConfig.ORDERS_CACHE);
+    }
+
+    /**
+     * Evicts a cached order if it is older than the given version.
+     *
+     * @param orderId The ID of the changed order
+     * @param version The order version after the change; null evicts unconditionally
+     */
+    public void evictIfOlder(Long orderId, Long version) {
+        if (orderId == null) {
+            return;
+        }
+        Order cached = ordersCache.get(orderId, Order.class);
+        if (cached != null && isOlder(cached, version)) {
+            ordersCache.evict(orderId);
+            log.debug("Evicted cached order {} at version {} (latest {})", orderId, cached.getVersion(), version);
+        }
+    }
+
+    /**
+     * Removes an order from the cache.
+     *
+     * @param orderId The ID of the order to evict
+     */
+    public void evict(Long orderId) {
+        if (orderId != null) {
+            ordersCache.evict(orderId);
+        }
+    }
+
+    private static boolean isOlder(Order cached, Long version) {
+        if (version == null || cached.getVersion() == null) {
+            return true;
+        }
+        return cached.getVersion() < version;
+    }
+}
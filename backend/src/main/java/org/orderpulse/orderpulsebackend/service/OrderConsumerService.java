@@ -1,67 +1,292 @@
 package org.orderpulse.orderpulsebackend.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.orderpulse.orderpulsebackend.config.KafkaTopicConfig;
 import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.orderpulse.orderpulsebackend.event.OrderEventType;
+import org.orderpulse.orderpulsebackend.kafka.KeyOrderedExecutor;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
 /**
  * Service class for consuming order events from Kafka.
  * Processes different types of order events and performs appropriate actions.
+ * Also keeps the order cache consistent with changes made by any instance.
+ *
+ * Two listener modes, selected by orderpulse.kafka.consumer.batch-listener:
+ * - record (default): records are handed off to a KeyOrderedExecutor keyed by the record
+ *   key (order ID), so events for one order are processed in order while different orders
+ *   run in parallel. Each record is acknowledged once its processing has succeeded; a record
+ *   whose processing fails is published to the dead-letter topic first, and left unacknowledged
+ *   (redelivered after a restart or rebalance) if that fails too.
+ * - batch: each poll is delivered as one list, collapsed per order, grouped by event type,
+ *   processed in bulk and committed once.
+ *
+ * Metrics, tagged by event type:
+ * - orderpulse.kafka.consumer.processing: processing time, per event in record mode and per
+ *   type group of a poll in batch mode (tag mode)
+ * - orderpulse.kafka.consumer.end-to-end: from the event's occurredAt (taken when the change
+ *   was written to the outbox) until it has been processed here
  */
 @Slf4j
 @Service
 public class OrderConsumerService {
 
+    private final OrderCacheService orderCacheService;
+    private final KeyOrderedExecutor keyOrderedExecutor;
+    private final ConsumerRecordRecoverer deadLetterRecoverer;
+    private final Map<OrderEventType, Timer> recordTimers = new EnumMap<>(OrderEventType.class);
+    private final Map<OrderEventType, Timer> batchTimers = new EnumMap<>(OrderEventType.class);
+    private final Map<OrderEventType, Timer> endToEndTimers = new EnumMap<>(OrderEventType.class);
+
+    public OrderConsumerService(OrderCacheService orderCacheService,
+                                KeyOrderedExecutor keyOrderedExecutor,
+                                ConsumerRecordRecoverer deadLetterRecoverer,
+                                MeterRegistry meterRegistry) {
+        this.orderCacheService = orderCacheService;
+        this.keyOrderedExecutor = keyOrderedExecutor;
+        this.deadLetterRecoverer = deadLetterRecoverer;
+        for (OrderEventType type : OrderEventType.values()) {
+            recordTimers.put(type, processingTimer(meterRegistry, type, "record"));
+            batchTimers.put(type, processingTimer(meterRegistry, type, "batch"));
+            endToEndTimers.put(type, Timer.builder("orderpulse.kafka.consumer.end-to-end")
+                .description("Time from an order change until its event has been consumed")
+                .tag("type", type.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Listens for order events on the order-events topic and dispatches them to the worker lane
+     * owning the order. Blocks only while that lane's queue is full.
+     *
+     * @param record The order event received from Kafka, keyed by order ID
+     * @param acknowledgment Commits the record's offset once it has been processed or dead-lettered
+     */
+    @KafkaListener(
+        id = "orderEventRecordListener",
+        topics = KafkaTopicConfig.ORDER_TOPIC,
+        groupId = "${spring.kafka.consumer.group-id}",
+        containerFactory = "orderKafkaListenerContainerFactory",
+        autoStartup = "#{!${orderpulse.kafka.consumer.batch-listener:false}}"
+    )
+    public void consumeOrderEvent(ConsumerRecord<String, OrderEvent> record, Acknowledgment acknowledgment) {
+        keyOrderedExecutor.submit(record.key(), () -> processOrderEvent(record.value()))
+            .whenComplete((ignored, ex) -> {
+                if (ex == null || deadLetter(record, ex)) {
+                    acknowledgment.acknowledge();
+                }
+            });
+    }
+
     /**
-     * Listens for order events on the specified Kafka topic.
-     * Processes events based on their type (CREATE, UPDATE, DELETE).
+     * Publishes a record whose processing failed to the dead-letter topic.
+     * Runs on the worker lane, which waits for the broker's acknowledgement.
      *
-     * @param orderEvent The order event received from Kafka
+     * @return true if the record was dead-lettered and may be committed
+     */
+    private boolean deadLetter(ConsumerRecord<String, OrderEvent> record, Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        log.error("Failed to process order event for key {} at {}-{}@{}: {}",
+            record.key(), record.topic(), record.partition(), record.offset(), cause.getMessage(), cause);
+        try {
+            deadLetterRecoverer.accept(record,
+                cause instanceof Exception exception ? exception : new IllegalStateException(cause));
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Failed to dead-letter order event for key {} at {}-{}@{}; leaving it uncommitted: {}",
+                record.key(), record.topic(), record.partition(), record.offset(), e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Listens for order events in batch mode: receives every record of one poll at once.
+     * Offsets are committed once, after the whole batch has been processed.
+     *
+     * @param records The records returned by one poll
      */
     @KafkaListener(
-        topics = "${spring.kafka.topic.name}",
+        id = "orderEventBatchListener",
+        topics = KafkaTopicConfig.ORDER_TOPIC,
         groupId = "${spring.kafka.consumer.group-id}",
-        containerFactory = "orderKafkaListenerContainerFactory"
+        containerFactory = "orderBatchKafkaListenerContainerFactory",
+        autoStartup = "${orderpulse.kafka.consumer.batch-listener:false}"
     )
-    public void consumeOrderEvent(OrderEvent orderEvent) {
-        log.info("Order event received -> {}", orderEvent);
-
-        switch (orderEvent.getEventType().toUpperCase()) {
-            case "CREATE" -> processOrderCreation(orderEvent);
-            case "UPDATE" -> processOrderUpdate(orderEvent);
-            case "DELETE" -> processOrderDeletion(orderEvent);
-            default -> log.warn("Unknown event type: {}", orderEvent.getEventType());
+    public void consumeOrderEvents(List<ConsumerRecord<String, OrderEvent>> records) {
+        List<OrderEvent> events = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, OrderEvent> record : records) {
+            if (record.value() != null) {
+                events.add(record.value());
+            }
+        }
+
+        Map<OrderEventType, List<OrderEvent>> grouped = collapse(events);
+        log.info("Order event batch received -> {} records, {} creates, {} updates, {} deletes",
+            records.size(),
+            grouped.get(OrderEventType.CREATE).size(),
+            grouped.get(OrderEventType.UPDATE).size(),
+            grouped.get(OrderEventType.DELETE).size());
+
+        processBatch(OrderEventType.CREATE, grouped, this::processOrderCreations);
+        processBatch(OrderEventType.UPDATE, grouped, this::processOrderUpdates);
+        processBatch(OrderEventType.DELETE, grouped, this::processOrderDeletions);
+        events.forEach(this::recordEndToEnd);
+    }
+
+    /**
+     * Processes a single order event based on its type (CREATE, UPDATE, DELETE).
+     * Runs on a worker lane; events for the same order never run concurrently.
+     *
+     * @param orderEvent The order event to process
+     */
+    void processOrderEvent(OrderEvent orderEvent) {
+        log.debug("Order event received -> {}", orderEvent);
+
+        if (orderEvent.getType() == null || orderEvent.getOrderId() == null) {
+            log.warn("Skipping unprocessable order event: {}", orderEvent);
+            return;
+        }
+        recordTimers.get(orderEvent.getType()).record(() -> {
+            switch (orderEvent.getType()) {
+                case CREATE -> processOrderCreations(List.of(orderEvent));
+                case UPDATE -> processOrderUpdates(List.of(orderEvent));
+                case DELETE -> processOrderDeletions(List.of(orderEvent));
+            }
+        });
+        recordEndToEnd(orderEvent);
+    }
+
+    /**
+     * Reduces a batch to the events that still matter, grouped by type in arrival order.
+     * Per order:
+     * - only the latest UPDATE is kept, since it carries the latest order version
+     * - a DELETE supersedes any UPDATE before it
+     * - CREATE events are always kept
+     *
+     * @param events Events in partition order
+     * @return Events per type; every type is present, possibly with an empty list
+     */
+    Map<OrderEventType, List<OrderEvent>> collapse(List<OrderEvent> events) {
+        Map<Long, OrderEvent> creates = new LinkedHashMap<>();
+        Map<Long, OrderEvent> updates = new LinkedHashMap<>();
+        Map<Long, OrderEvent> deletes = new LinkedHashMap<>();
+
+        for (OrderEvent event : events) {
+            Long orderId = event.getOrderId();
+            if (event.getType() == null || orderId == null) {
+                log.warn("Skipping unprocessable order event: {}", event);
+                continue;
+            }
+            switch (event.getType()) {
+                case CREATE -> creates.put(orderId, event);
+                case UPDATE -> {
+                    // Re-insert so the surviving update keeps the position of the latest one
+                    updates.remove(orderId);
+                    updates.put(orderId, event);
+                }
+                case DELETE -> {
+                    updates.remove(orderId);
+                    deletes.put(orderId, event);
+                }
+            }
+        }
+
+        Map<OrderEventType, List<OrderEvent>> grouped = new EnumMap<>(OrderEventType.class);
+        grouped.put(OrderEventType.CREATE, new ArrayList<>(creates.values()));
+        grouped.put(OrderEventType.UPDATE, new ArrayList<>(updates.values()));
+        grouped.put(OrderEventType.DELETE, new ArrayList<>(deletes.values()));
+        return grouped;
+    }
+
+    /**
+     * Processes the events of one type from a batch and times it.
+     */
+    private void processBatch(OrderEventType type, Map<OrderEventType, List<OrderEvent>> grouped,
+                              Consumer<List<OrderEvent>> processor) {
+        List<OrderEvent> events = grouped.get(type);
+        if (!events.isEmpty()) {
+            batchTimers.get(type).record(() -> processor.accept(events));
         }
     }
 
+    /**
+     * Records how long after the change an event has been consumed.
+     * Events without a type or timestamp are skipped.
+     */
+    private void recordEndToEnd(OrderEvent event) {
+        if (event.getType() == null || event.getOccurredAt() == null) {
+            return;
+        }
+        Duration latency = Duration.between(event.getOccurredAt(), Instant.now());
+        if (!latency.isNegative()) {
+            endToEndTimers.get(event.getType()).record(latency);
+        }
+    }
+
+    private static Timer processingTimer(MeterRegistry meterRegistry, OrderEventType type, String mode) {
+        return Timer.builder("orderpulse.kafka.consumer.processing")
+            .description("Time spent processing consumed order events")
+            .tag("type", type.name())
+            .tag("mode", mode)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
     /**
      * Processes order creation events.
      * Can be extended to include additional business logic like notifications.
      */
-    private void processOrderCreation(OrderEvent orderEvent) {
-        log.info("Processing order creation: {}", orderEvent.getOrder().getId());
-        // Add business logic for order creation event
-        // Example: Send notification to fulfillment system
+    private void processOrderCreations(List<OrderEvent> orderEvents) {
+        if (orderEvents.isEmpty()) {
+            return;
+        }
+        log.debug("Processing {} order creations", orderEvents.size());
+        // Add business logic for order creation events
+        // Example: Send one bulk notification to the fulfillment system
     }
 
     /**
      * Processes order update events.
      * Can be extended to include additional business logic like status updates.
      */
-    private void processOrderUpdate(OrderEvent orderEvent) {
-        log.info("Processing order update: {}", orderEvent.getOrder().getId());
-        // Add business logic for order update event
-        // Example: Update inventory system
+    private void processOrderUpdates(List<OrderEvent> orderEvents) {
+        if (orderEvents.isEmpty()) {
+            return;
+        }
+        log.debug("Processing {} order updates", orderEvents.size());
+        orderEvents.forEach(event -> orderCacheService.evictIfOlder(event.getOrderId(), event.getOrderVersion()));
+        // Add business logic for order update events
+        // Example: Update the inventory system in bulk
     }
 
     /**
      * Processes order deletion events.
      * Can be extended to include additional business logic like cleanup tasks.
      */
-    private void processOrderDeletion(OrderEvent orderEvent) {
-        log.info("Processing order deletion: {}", orderEvent.getOrder().getId());
-        // Add business logic for order deletion event
+    private void processOrderDeletions(List<OrderEvent> orderEvents) {
+        if (orderEvents.isEmpty()) {
+            return;
+        }
+        log.debug("Processing {} order deletions", orderEvents.size());
+        orderEvents.forEach(event -> orderCacheService.evict(event.getOrderId()));
+        // Add business logic for order deletion events
         // Example: Archive order data
     }
-}
\ No newline at end of file
+}
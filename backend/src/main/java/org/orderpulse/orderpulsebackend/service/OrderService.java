@@ -1,10 +1,15 @@
 package org.orderpulse.orderpulsebackend.service;
 
+import org.orderpulse.orderpulsebackend.dto.CursorPage;
+import org.orderpulse.orderpulsebackend.dto.OrderCursor;
+import org.orderpulse.orderpulsebackend.dto.OrderSummary;
 import org.orderpulse.orderpulsebackend.entity.Order;
 import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.orderpulse.orderpulsebackend.exception.InvalidStatusTransitionException;
 import org.orderpulse.orderpulsebackend.exception.OrderNotFoundException;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing orders in the OrderPulse system.
@@ -21,6 +26,15 @@ public interface OrderService {
      */
     Order createOrder(Order order);
 
+    /**
+     * Creates many orders in one transaction using JDBC batch inserts.
+     * One creation event per order is recorded for Kafka.
+     *
+     * @param orders The orders to be created
+     * @return The created orders with generated IDs, in request order
+     */
+    List<Order> createOrders(List<Order> orders);
+
     /**
      * Retrieves an order by its unique identifier.
      *
@@ -38,24 +52,47 @@ public interface OrderService {
      * @param newStatus The new status to set
      * @return The updated order
      * @throws OrderNotFoundException if no order exists with the given ID
+     * @throws InvalidStatusTransitionException if the order's current status cannot move to the new status
      */
     Order updateOrderStatus(Long orderId, OrderStatus newStatus);
 
     /**
-     * Retrieves all orders for a specific customer.
+     * Retrieves one page of orders for a specific customer, oldest first.
      *
      * @param customerName The name of the customer
-     * @return List of orders belonging to the customer
+     * @param after Cursor of the last order already seen, or null for the first page
+     * @param limit Maximum number of orders to return
+     * @return Page of orders belonging to the customer
      */
-    List<Order> getOrdersByCustomer(String customerName);
+    CursorPage<OrderSummary> getOrdersByCustomer(String customerName, OrderCursor after, int limit);
 
     /**
-     * Retrieves all orders with a specific status.
+     * Retrieves one page of orders with a specific status, oldest first.
      *
      * @param status The order status to filter by
-     * @return List of orders with the specified status
+     * @param after Cursor of the last order already seen, or null for the first page
+     * @param limit Maximum number of orders to return
+     * @return Page of orders with the specified status
+     */
+    CursorPage<OrderSummary> getOrdersByStatus(OrderStatus status, OrderCursor after, int limit);
+
+    /**
+     * Retrieves one page of orders containing a product, oldest first.
+     *
+     * @param sku The product SKU to filter by
+     * @param after Cursor of the last order already seen, or null for the first page
+     * @param limit Maximum number of orders to return
+     * @return Page of orders with at least one line item for the SKU
+     */
+    CursorPage<OrderSummary> getOrdersBySku(String sku, OrderCursor after, int limit);
+
+    /**
+     * Streams orders to a consumer one at a time without loading them all into memory.
+     *
+     * @param status The order status to filter by, or null for all orders
+     * @param consumer Callback invoked for every order, in ID order
      */
-    List<Order> getOrdersByStatus(OrderStatus status);
+    void exportOrders(OrderStatus status, Consumer<OrderSummary> consumer);
 
     /**
      * Deletes an order from the system.
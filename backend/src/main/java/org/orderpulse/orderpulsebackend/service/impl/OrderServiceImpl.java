@@ -1,31 +1,72 @@
 package org.orderpulse.orderpulsebackend.service.impl;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import org.orderpulse.orderpulsebackend.config.CacheConfig;
+import org.orderpulse.orderpulsebackend.dto.CursorPage;
+import org.orderpulse.orderpulsebackend.dto.OrderCursor;
+import org.orderpulse.orderpulsebackend.dto.OrderSummary;
 import org.orderpulse.orderpulsebackend.entity.Order;
 import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.orderpulse.orderpulsebackend.exception.InvalidStatusTransitionException;
 import org.orderpulse.orderpulsebackend.exception.OrderNotFoundException;
-import org.orderpulse.orderpulsebackend.kafka.OrderProducer;
+import org.orderpulse.orderpulsebackend.event.OrderEventType;
+import org.orderpulse.orderpulsebackend.kafka.OrderEventOutbox;
 import org.orderpulse.orderpulsebackend.repository.OrderRepository;
 import org.orderpulse.orderpulsebackend.service.OrderService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the OrderService interface that handles order management operations.
  * This service implements transaction management and integrates with Kafka for event publishing.
+ * Events are written to the transactional outbox and relayed to Kafka asynchronously.
+ *
+ * Database writes are timed in the {@code orderpulse.orders.db.save} metric, tagged by
+ * operation. Each timed write is flushed, so the timer covers the SQL statements rather
+ * than just the in-memory persist.
  */
 @Service
-@RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
-    private final OrderProducer orderProducer;
+    private final OrderEventOutbox orderEventOutbox;
+    private final EntityManager entityManager;
+    private final Timer createTimer;
+    private final Timer createBatchTimer;
+    private final Timer updateStatusTimer;
+    private final Timer deleteTimer;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int insertBatchSize;
+
+    public OrderServiceImpl(OrderRepository orderRepository,
+                            OrderEventOutbox orderEventOutbox,
+                            EntityManager entityManager,
+                            MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.orderEventOutbox = orderEventOutbox;
+        this.entityManager = entityManager;
+        this.createTimer = saveTimer(meterRegistry, "create");
+        this.createBatchTimer = saveTimer(meterRegistry, "create_batch");
+        this.updateStatusTimer = saveTimer(meterRegistry, "update_status");
+        this.deleteTimer = saveTimer(meterRegistry, "delete");
+    }
 
     /**
-     * Creates a new order and publishes an event to Kafka.
-     * The entire operation is transactional to ensure data consistency.
+     * Creates a new order and records a creation event in the outbox.
+     * The order and its event are committed in the same transaction.
      *
      * @param order The order to be created
      * @return The persisted order with generated ID and audit fields
@@ -38,17 +79,54 @@ public class OrderServiceImpl implements OrderService {
             order.setStatus(OrderStatus.PENDING);
         }
 
-        // Save the order to the database
-        Order savedOrder = orderRepository.save(order);
+        // Save the order (and its items) to the database
+        Order savedOrder = createTimer.record(() -> orderRepository.saveAndFlush(order));
 
-        // Publish order created event to Kafka
-        orderProducer.sendMessage(savedOrder);
+        // Record order created event for the outbox relay
+        orderEventOutbox.enqueue(savedOrder, OrderEventType.CREATE);
 
         return savedOrder;
     }
 
     /**
-     * Retrieves an order by its ID.
+     * Creates many orders in a single transaction.
+     * Orders are persisted in chunks matching the JDBC batch size; after each chunk the
+     * persistence context is flushed and cleared so memory stays flat for large batches.
+     * Creation events are written to the outbox with one batch insert.
+     *
+     * @param orders The orders to be created
+     * @return The persisted orders with generated IDs
+     */
+    @Override
+    @Transactional
+    public List<Order> createOrders(List<Order> orders) {
+        List<Order> savedOrders = new ArrayList<>(orders.size());
+        for (int start = 0; start < orders.size(); start += insertBatchSize) {
+            List<Order> chunk = orders.subList(start, Math.min(start + insertBatchSize, orders.size()));
+            for (Order order : chunk) {
+                if (order.getStatus() == null) {
+                    order.setStatus(OrderStatus.PENDING);
+                }
+            }
+            createBatchTimer.record(() -> {
+                savedOrders.addAll(orderRepository.saveAll(chunk));
+                entityManager.flush();
+            });
+            entityManager.clear();
+        }
+
+        // Record one order created event per order for the outbox relay
+        orderEventOutbox.enqueueAll(savedOrders, OrderEventType.CREATE);
+
+        return savedOrders;
+    }
+
+    /**
+     * Retrieves an order by its ID, including its line items.
+     * Reads through the order cache; misses are loaded from the database (order and items
+     * in one query) and cached.
+     * Concurrent misses for the same ID on one instance share a single database load
+     * (TwoLevelCache loads each key once at a time in its near tier).
      * Throws OrderNotFoundException if the order doesn't exist.
      *
      * @param orderId The ID of the order to retrieve
@@ -57,76 +135,175 @@ public class OrderServiceImpl implements OrderService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ORDERS_CACHE, key = "#orderId", sync = true)
     public Order getOrderById(Long orderId) {
-        return orderRepository.findById(orderId)
+        return orderRepository.findWithItemsById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
     }
 
     /**
-     * Updates the status of an existing order and publishes an event to Kafka.
-     * The entire operation is transactional to ensure data consistency.
+     * Updates the status of an existing order and records an update event in the outbox.
+     * The order and its event are committed in the same transaction, and the cached
+     * order is evicted once the transaction commits.
+     *
+     * The change is a single conditional UPDATE ... RETURNING statement, so the order is
+     * neither read beforehand nor dirty-checked; the returned order's items are not loaded.
+     * The statement only matches orders whose current status may move to the new status
+     * (see OrderStatus), so a rejected transition writes nothing and publishes no event.
+     * A status no other status leads to is rejected without querying the database.
      *
      * @param orderId The ID of the order to update
      * @param newStatus The new status to set
      * @return The updated order
      * @throws OrderNotFoundException if no order exists with the given ID
+     * @throws InvalidStatusTransitionException if the order's current status cannot move to the new status
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ORDERS_CACHE, key = "#orderId")
     public Order updateOrderStatus(Long orderId, OrderStatus newStatus) {
-        Order order = getOrderById(orderId);
-        order.setStatus(newStatus);
+        List<String> allowedPrevious = newStatus.allowedPreviousNames();
+        if (allowedPrevious.isEmpty()) {
+            throw new InvalidStatusTransitionException(orderId, newStatus);
+        }
 
-        // Save the updated order
-        Order updatedOrder = orderRepository.save(order);
+        Order updatedOrder = updateStatusTimer.record(() ->
+                orderRepository.updateStatus(orderId, newStatus.name(), allowedPrevious, LocalDateTime.now()))
+                .orElseThrow(() -> statusUpdateRejected(orderId, newStatus));
 
-        // Publish order updated event to Kafka
-        orderProducer.sendMessage(updatedOrder);
+        // Record order updated event for the outbox relay
+        orderEventOutbox.enqueue(updatedOrder, OrderEventType.UPDATE);
 
         return updatedOrder;
     }
 
     /**
-     * Retrieves all orders for a specific customer.
+     * Retrieves one page of orders for a specific customer using keyset pagination.
+     * Reads summaries only, so no entities are loaded or tracked.
      *
      * @param customerName The name of the customer
-     * @return List of orders belonging to the customer
+     * @param after Cursor of the last order already seen, or null for the first page
+     * @param limit Maximum number of orders to return
+     * @return Page of orders belonging to the customer
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Order> getOrdersByCustomer(String customerName) {
-        return orderRepository.findByCustomerName(customerName);
+    public CursorPage<OrderSummary> getOrdersByCustomer(String customerName, OrderCursor after, int limit) {
+        PageRequest pageRequest = PageRequest.ofSize(limit + 1);
+        List<OrderSummary> orders = after == null
+                ? orderRepository.findFirstPageByCustomer(customerName, pageRequest)
+                : orderRepository.findNextPageByCustomer(customerName, after.getCreatedAt(), after.getId(), pageRequest);
+        return toPage(orders, limit);
     }
 
     /**
-     * Retrieves all orders with a specific status.
+     * Retrieves one page of orders with a specific status using keyset pagination.
+     * Reads summaries only, so no entities are loaded or tracked.
      *
      * @param status The order status to filter by
-     * @return List of orders with the specified status
+     * @param after Cursor of the last order already seen, or null for the first page
+     * @param limit Maximum number of orders to return
+     * @return Page of orders with the specified status
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<OrderSummary> getOrdersByStatus(OrderStatus status, OrderCursor after, int limit) {
+        PageRequest pageRequest = PageRequest.ofSize(limit + 1);
+        List<OrderSummary> orders = after == null
+                ? orderRepository.findFirstPageByStatus(status, pageRequest)
+                : orderRepository.findNextPageByStatus(status, after.getCreatedAt(), after.getId(), pageRequest);
+        return toPage(orders, limit);
+    }
+
+    /**
+     * Retrieves one page of orders containing a product using keyset pagination.
+     * Reads summaries only, so no entities are loaded or tracked.
+     *
+     * @param sku The product SKU to filter by
+     * @param after Cursor of the last order already seen, or null for the first page
+     * @param limit Maximum number of orders to return
+     * @return Page of orders with at least one line item for the SKU
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Order> getOrdersByStatus(OrderStatus status) {
-        return orderRepository.findByStatus(status);
+    public CursorPage<OrderSummary> getOrdersBySku(String sku, OrderCursor after, int limit) {
+        PageRequest pageRequest = PageRequest.ofSize(limit + 1);
+        List<OrderSummary> orders = after == null
+                ? orderRepository.findFirstPageBySku(sku, pageRequest)
+                : orderRepository.findNextPageBySku(sku, after.getCreatedAt(), after.getId(), pageRequest);
+        return toPage(orders, limit);
     }
 
     /**
-     * Deletes an order and publishes a deletion event to Kafka.
-     * The entire operation is transactional to ensure data consistency.
+     * Streams orders to a consumer through a database cursor.
+     * Rows are read as summaries, which the persistence context does not track,
+     * so memory stays constant for any table size.
+     *
+     * @param status The order status to filter by, or null for all orders
+     * @param consumer Callback invoked for every order, in ID order
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportOrders(OrderStatus status, Consumer<OrderSummary> consumer) {
+        try (Stream<OrderSummary> orders = status == null
+                ? orderRepository.streamAll()
+                : orderRepository.streamByStatus(status)) {
+            orders.forEach(consumer);
+        }
+    }
+
+    /**
+     * Deletes an order and records a deletion event in the outbox.
+     * The deletion and its event are committed in the same transaction, and the cached
+     * order is evicted once the transaction commits.
      *
      * @param orderId The ID of the order to delete
      * @throws OrderNotFoundException if no order exists with the given ID
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ORDERS_CACHE, key = "#orderId")
     public void deleteOrder(Long orderId) {
         // Verify the order exists before deletion
         Order order = getOrderById(orderId);
 
-        // Delete the order
-        orderRepository.deleteById(orderId);
+        // Delete the order (its items cascade)
+        deleteTimer.record(() -> {
+            orderRepository.deleteById(orderId);
+            entityManager.flush();
+        });
 
-        // Publish order deleted event to Kafka
-        orderProducer.sendMessage(order);
+        // Record order deleted event for the outbox relay
+        orderEventOutbox.enqueue(order, OrderEventType.DELETE);
+    }
+
+    /**
+     * Explains why the conditional status update matched no row.
+     * Only runs on the failure path, so successful updates stay one statement.
+     */
+    private RuntimeException statusUpdateRejected(Long orderId, OrderStatus newStatus) {
+        return orderRepository.findStatusById(orderId)
+                .<RuntimeException>map(current -> new InvalidStatusTransitionException(orderId, current, newStatus))
+                .orElseGet(() -> new OrderNotFoundException(orderId));
+    }
+
+    private static Timer saveTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("orderpulse.orders.db.save")
+                .description("Time spent writing orders to the database")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Builds a page from a query that fetched one row more than the limit.
+     * The extra row only signals that another page exists and is not returned.
+     */
+    private CursorPage<OrderSummary> toPage(List<OrderSummary> orders, int limit) {
+        if (orders.size() <= limit) {
+            return new CursorPage<>(orders, null);
+        }
+        List<OrderSummary> items = new ArrayList<>(orders.subList(0, limit));
+        return new CursorPage<>(items, OrderCursor.of(items.get(limit - 1)).encode());
     }
-}
\ No newline at end of file
+}
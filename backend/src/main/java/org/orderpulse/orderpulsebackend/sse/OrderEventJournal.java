@@ -0,0 +1,172 @@
+package org.orderpulse.orderpulsebackend.sse;
+
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory journal of the most recent order events seen by this node, per partition.
+ *
+ * Fed by the node's own order-events consumer (LiveOrderEventListener) and read by
+ * OrderStreamService, so SSE clients are served and resumed without a Kafka round trip
+ * as long as they are no more than orderpulse.sse.journal-capacity events per partition behind.
+ * Older positions are replayed from Kafka (OrderEventReplayer).
+ */
+@Component
+public class OrderEventJournal {
+
+    private final int capacity;
+    private final Map<Integer, PartitionLog> partitions = new ConcurrentHashMap<>();
+
+    public OrderEventJournal(@Value("${orderpulse.sse.journal-capacity:10000}") int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * An event and its position in the order-events topic.
+     */
+    public record Entry(int partition, long offset, OrderEvent event) {
+    }
+
+    /**
+     * Starts (or restarts) journaling a partition at the consumer's position.
+     * Called on partition assignment; anything journaled before is discarded, since
+     * events between the old and the new position may have been skipped.
+     *
+     * @param partition The partition
+     * @param position Offset of the next record the consumer will read
+     */
+    public void start(int partition, long position) {
+        partitions.put(partition, new PartitionLog(capacity, position - 1));
+    }
+
+    /**
+     * Appends an event. Offsets at or below the last journaled offset are ignored.
+     */
+    public void append(int partition, long offset, OrderEvent event) {
+        partitions.computeIfAbsent(partition, p -> new PartitionLog(capacity, offset - 1))
+            .append(offset, event);
+    }
+
+    /**
+     * Last offset seen per partition; a new stream starts here.
+     */
+    public Map<Integer, Long> head() {
+        Map<Integer, Long> head = new HashMap<>();
+        partitions.forEach((partition, log) -> head.put(partition, log.last()));
+        return head;
+    }
+
+    /**
+     * Whether every event of a partition after the given offset is still journaled.
+     */
+    public boolean covers(int partition, long offset) {
+        PartitionLog log = partitions.get(partition);
+        return log != null && offset >= log.floor();
+    }
+
+    /**
+     * Reads the events after a stream position. Partitions missing from the position are
+     * read from the start of the journal.
+     *
+     * @param position Last delivered offset per partition
+     * @param max Maximum number of entries to return
+     * @return Entries in offset order per partition, or null if the journal no longer
+     *         holds all events after the position
+     */
+    public List<Entry> read(StreamPosition position, int max) {
+        List<Entry> entries = new ArrayList<>();
+        for (Map.Entry<Integer, PartitionLog> partition : partitions.entrySet()) {
+            Long offset = position.get(partition.getKey());
+            if (!partition.getValue().readAfter(partition.getKey(), offset, max - entries.size(), entries)) {
+                return null;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Ring buffer of one partition's most recent events, in offset order.
+     */
+    private static final class PartitionLog {
+
+        private final long[] offsets;
+        private final OrderEvent[] events;
+        private int start;
+        private int size;
+        private long floor;   // Highest offset before the retained entries that is not retained
+        private long last;    // Highest offset appended (or floor while empty)
+
+        PartitionLog(int capacity, long floor) {
+            this.offsets = new long[capacity];
+            this.events = new OrderEvent[capacity];
+            this.floor = floor;
+            this.last = floor;
+        }
+
+        synchronized void append(long offset, OrderEvent event) {
+            if (offset <= last) {
+                return;
+            }
+            if (size == offsets.length) {
+                floor = offsets[start];
+                events[start] = null;
+                start = (start + 1) % offsets.length;
+                size--;
+            }
+            int index = (start + size) % offsets.length;
+            offsets[index] = offset;
+            events[index] = event;
+            size++;
+            last = offset;
+        }
+
+        synchronized long floor() {
+            return floor;
+        }
+
+        synchronized long last() {
+            return last;
+        }
+
+        /**
+         * Adds up to max entries after the given offset (or all retained entries if null).
+         *
+         * @return false if events after the offset have already been dropped
+         */
+        synchronized boolean readAfter(int partition, Long after, int max, List<Entry> out) {
+            if (after != null && after < floor) {
+                return false;
+            }
+            int from = after == null ? 0 : firstAfter(after);
+            for (int i = from; i < size && max > 0; i++, max--) {
+                int index = (start + i) % offsets.length;
+                out.add(new Entry(partition, offsets[index], events[index]));
+            }
+            return true;
+        }
+
+        /**
+         * Binary search for the logical index of the first entry with an offset above the given one.
+         */
+        private int firstAfter(long offset) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (offsets[(start + mid) % offsets.length] <= offset) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
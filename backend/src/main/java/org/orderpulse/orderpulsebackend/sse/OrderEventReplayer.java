@@ -0,0 +1,119 @@
+package org.orderpulse.orderpulsebackend.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.orderpulse.orderpulsebackend.config.KafkaTopicConfig;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays order events from Kafka for SSE clients resuming from a position that is older
+ * than this node's OrderEventJournal.
+ *
+ * Uses a short-lived consumer that is assigned the partitions directly (no group membership,
+ * no commits), seeks to the client's offsets and reads up to the end offsets observed at the
+ * start of the replay. Replays are capped at orderpulse.sse.max-replay-events; a client further
+ * behind than that is told to reload instead.
+ */
+@Slf4j
+@Component
+public class OrderEventReplayer {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final ConsumerFactory<String, OrderEvent> consumerFactory;
+    private final int maxReplayEvents;
+    private final Duration replayTimeout;
+
+    public OrderEventReplayer(ConsumerFactory<String, OrderEvent> orderConsumerFactory,
+                              @Value("${orderpulse.sse.max-replay-events:10000}") int maxReplayEvents,
+                              @Value("${orderpulse.sse.replay-timeout:10s}") Duration replayTimeout) {
+        this.consumerFactory = orderConsumerFactory;
+        this.maxReplayEvents = maxReplayEvents;
+        this.replayTimeout = replayTimeout;
+    }
+
+    /**
+     * Result of a replay.
+     *
+     * @param entries Replayed events in offset order per partition
+     * @param lastOffsets Last offset read per partition, including offsets of records that
+     *                    could not be deserialized; the stream continues after these
+     */
+    public record Replay(List<OrderEventJournal.Entry> entries, Map<Integer, Long> lastOffsets) {
+    }
+
+    /**
+     * Reads the events after the given offsets.
+     *
+     * @param from Last delivered offset of each partition to replay
+     * @return The replayed events, or null if they are no longer retained by Kafka
+     *         or exceed the replay limit
+     */
+    public Replay replay(Map<Integer, Long> from) {
+        Map<TopicPartition, Long> next = new HashMap<>();
+        from.forEach((partition, offset) ->
+            next.put(new TopicPartition(KafkaTopicConfig.ORDER_TOPIC, partition), offset + 1));
+
+        try (Consumer<String, OrderEvent> consumer = consumerFactory.createConsumer(null, null, "-sse-replay")) {
+            consumer.assign(next.keySet());
+            Map<TopicPartition, Long> beginning = consumer.beginningOffsets(next.keySet());
+            Map<TopicPartition, Long> end = consumer.endOffsets(next.keySet());
+
+            long pending = 0;
+            for (Map.Entry<TopicPartition, Long> partition : next.entrySet()) {
+                if (partition.getValue() < beginning.get(partition.getKey())) {
+                    log.debug("Replay of {} from {} is past retention", partition.getKey(), partition.getValue());
+                    return null;
+                }
+                pending += Math.max(0, end.get(partition.getKey()) - partition.getValue());
+                consumer.seek(partition.getKey(), partition.getValue());
+            }
+            if (pending > maxReplayEvents) {
+                log.debug("Replay of {} events exceeds the limit of {}", pending, maxReplayEvents);
+                return null;
+            }
+
+            List<OrderEventJournal.Entry> entries = new ArrayList<>();
+            long deadline = System.nanoTime() + replayTimeout.toNanos();
+            while (!caughtUp(consumer, end)) {
+                if (System.nanoTime() - deadline > 0) {
+                    log.warn("Order event replay timed out after {}", replayTimeout);
+                    return null;
+                }
+                for (ConsumerRecord<String, OrderEvent> record : consumer.poll(POLL_TIMEOUT)) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (record.offset() < end.get(partition) && record.value() != null) {
+                        entries.add(new OrderEventJournal.Entry(record.partition(), record.offset(), record.value()));
+                    }
+                }
+            }
+            Map<Integer, Long> lastOffsets = new HashMap<>();
+            end.forEach((partition, offset) -> lastOffsets.put(partition.partition(), offset - 1));
+            return new Replay(entries, lastOffsets);
+        } catch (KafkaException e) {
+            log.warn("Order event replay failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean caughtUp(Consumer<String, OrderEvent> consumer, Map<TopicPartition, Long> end) {
+        for (Map.Entry<TopicPartition, Long> partition : end.entrySet()) {
+            if (consumer.position(partition.getKey()) < partition.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,305 @@
+package org.orderpulse.orderpulsebackend.sse;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.orderpulse.orderpulsebackend.dto.OrderStatusUpdate;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams order changes to clients as Server-Sent Events.
+ *
+ * Every stream tracks its StreamPosition (last order-events offset per partition) and sends
+ * it as the event ID. A client reconnecting with Last-Event-ID continues right after the last
+ * event it received: from this node's OrderEventJournal when it still holds those events,
+ * otherwise from Kafka (OrderEventReplayer). If neither can, the client receives a "reset"
+ * event carrying the current position and should reload its order list.
+ *
+ * A scheduled flush runs every orderpulse.sse.flush-interval-ms and hands each stream a send
+ * task. The task sends the journal entries after the stream's position that match its filter.
+ * Sends run on their own threads, one task per stream at a time (virtual threads when
+ * spring.threads.virtual.enabled is set), so a client whose connection has stalled holds up
+ * only its own stream. A stream still blocked in a send after orderpulse.sse.send-timeout is
+ * dropped: it gets no more tasks and is completed once the blocked write returns or fails.
+ * The client then resumes from its last event ID.
+ *
+ * A reconnect's Kafka replay also runs on a send thread, after the emitter has been returned,
+ * so a wave of reconnects does not tie up request threads.
+ */
+@Slf4j
+@Service
+public class OrderStreamService {
+
+    static final String ORDER_EVENT = "order";
+    static final String RESET_EVENT = "reset";
+
+    private final OrderEventJournal journal;
+    private final OrderEventReplayer replayer;
+    private final long timeoutMillis;
+    private final int maxBatch;
+    private final long heartbeatNanos;
+    private final long sendTimeoutNanos;
+    private final ExecutorService sendExecutor;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    public OrderStreamService(OrderEventJournal journal,
+                              OrderEventReplayer replayer,
+                              @Value("${orderpulse.sse.timeout:30m}") Duration timeout,
+                              @Value("${orderpulse.sse.max-batch:500}") int maxBatch,
+                              @Value("${orderpulse.sse.heartbeat-interval:15s}") Duration heartbeatInterval,
+                              @Value("${orderpulse.sse.send-timeout:5s}") Duration sendTimeout,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.journal = journal;
+        this.replayer = replayer;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxBatch = Math.max(1, maxBatch);
+        this.heartbeatNanos = heartbeatInterval.toNanos();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.sendExecutor = virtualThreads
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-stream-send-", 1).factory())
+            : Executors.newCachedThreadPool(sendThreadFactory());
+    }
+
+    /**
+     * Opens a stream of order changes.
+     *
+     * @param status Only stream orders with this status, or null for any
+     * @param customerName Only stream orders of this customer, or null for any
+     * @param lastEventId The Last-Event-ID header of a reconnecting client, or null for a new stream
+     * @return The emitter; events missed since lastEventId are sent first, once it is returned
+     */
+    public SseEmitter subscribe(OrderStatus status, String customerName, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        StreamPosition resumeFrom = StreamPosition.parse(lastEventId);
+        Subscription subscription = new Subscription(emitter, status, customerName,
+            resumeFrom != null ? resumeFrom : StreamPosition.of(journal.head()));
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+
+        if (resumeFrom == null) {
+            subscriptions.add(subscription);
+            return emitter;
+        }
+        // Events the journal no longer holds are replayed before the stream joins the flush;
+        // the emitter buffers them until the response is ready
+        sendExecutor.execute(() -> {
+            try {
+                if (replayFromKafka(subscription)) {
+                    subscriptions.add(subscription);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Order stream replay failed: {}", e.getMessage(), e);
+                reset(subscription);
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * Hands every stream that is not still busy with its previous send a task sending the new
+     * events after its position, and drops streams stuck in one send for longer than the send timeout.
+     */
+    @Scheduled(fixedDelayString = "${orderpulse.sse.flush-interval-ms:250}")
+    public void flush() {
+        long now = System.nanoTime();
+        for (Subscription subscription : subscriptions) {
+            long sendingSince = subscription.sendingSince;
+            if (sendingSince != 0) {
+                if (now - sendingSince >= sendTimeoutNanos) {
+                    subscription.dropped = true;
+                    subscriptions.remove(subscription);
+                    if (subscription.sendingSince == 0) {
+                        // The send returned before it could see the flag
+                        completeQuietly(subscription.emitter);
+                    }
+                    log.debug("Dropped order stream stalled in a send for {} ms", (now - sendingSince) / 1_000_000);
+                }
+                continue;
+            }
+            subscription.sendingSince = now;
+            try {
+                sendExecutor.execute(() -> deliver(subscription));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                subscription.sendingSince = 0;
+            }
+        }
+    }
+
+    /**
+     * Sends one stream the new events after its position, or a keepalive when it has been idle.
+     */
+    private void deliver(Subscription subscription) {
+        try {
+            List<OrderEventJournal.Entry> entries = journal.read(subscription.position, maxBatch);
+            if (entries == null) {
+                reset(subscription);
+            } else if (!subscription.send(entries) && subscription.idleNanos() >= heartbeatNanos) {
+                subscription.heartbeat();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the container completes the emitter
+            subscriptions.remove(subscription);
+        } finally {
+            subscription.sendingSince = 0;
+            if (subscription.dropped) {
+                // The stalled send has returned; end the stream so the client reconnects and resumes
+                completeQuietly(subscription.emitter);
+            }
+        }
+    }
+
+    private static void completeQuietly(SseEmitter emitter) {
+        try {
+            emitter.complete();
+        } catch (IllegalStateException e) {
+            log.debug("Order stream already completed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    /**
+     * Number of open streams on this node.
+     */
+    public int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Replays, from Kafka, the partitions whose events after the stream's position have left the journal.
+     *
+     * @return false if the replay was not possible and the stream has been reset
+     */
+    private boolean replayFromKafka(Subscription subscription) {
+        Map<Integer, Long> missing = new HashMap<>();
+        subscription.position.offsets().forEach((partition, offset) -> {
+            if (!journal.covers(partition, offset)) {
+                missing.put(partition, offset);
+            }
+        });
+        if (missing.isEmpty()) {
+            return true;
+        }
+
+        OrderEventReplayer.Replay replay = replayer.replay(missing);
+        if (replay == null) {
+            reset(subscription);
+            return false;
+        }
+        try {
+            subscription.send(replay.entries());
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+        // Continue from the journal right after the replayed range
+        replay.lastOffsets().forEach(subscription.position::advance);
+        return true;
+    }
+
+    /**
+     * Tells a client its position can no longer be resumed and ends the stream.
+     * The reset event carries the current position, so the client's next reconnect starts there.
+     */
+    private void reset(Subscription subscription) {
+        subscriptions.remove(subscription);
+        try {
+            subscription.emitter.send(SseEmitter.event()
+                .id(StreamPosition.of(journal.head()).encode())
+                .name(RESET_EVENT)
+                .data("Stream position is no longer available; reload orders and reconnect"));
+            subscription.emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Could not reset order stream: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * One open stream: its emitter, filter and position.
+     * Touched by one thread at a time: the replay task until registered, then one send task at a time.
+     */
+    private static final class Subscription {
+
+        private final SseEmitter emitter;
+        private final OrderStatus status;
+        private final String customerName;
+        private final StreamPosition position;
+        private long lastSentNanos = System.nanoTime();
+        private volatile long sendingSince;  // System.nanoTime() when the running send task was handed out, 0 if none
+        private volatile boolean dropped;    // Set by the flush when a send exceeded the send timeout
+
+        Subscription(SseEmitter emitter, OrderStatus status, String customerName, StreamPosition position) {
+            this.emitter = emitter;
+            this.status = status;
+            this.customerName = customerName;
+            this.position = position;
+        }
+
+        /**
+         * Advances past the given entries, sending those that match the filter.
+         *
+         * @return true if at least one event was sent
+         */
+        boolean send(List<OrderEventJournal.Entry> entries) throws IOException {
+            boolean sent = false;
+            for (OrderEventJournal.Entry entry : entries) {
+                position.advance(entry.partition(), entry.offset());
+                if (matches(entry.event())) {
+                    emitter.send(SseEmitter.event()
+                        .id(position.encode())
+                        .name(ORDER_EVENT)
+                        .data(OrderStatusUpdate.from(entry.event())));
+                    sent = true;
+                }
+            }
+            if (sent) {
+                lastSentNanos = System.nanoTime();
+            }
+            return sent;
+        }
+
+        void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("keepalive"));
+            lastSentNanos = System.nanoTime();
+        }
+
+        long idleNanos() {
+            return System.nanoTime() - lastSentNanos;
+        }
+
+        private boolean matches(OrderEvent event) {
+            return (status == null || status == event.getStatus())
+                && (customerName == null || customerName.equals(event.getCustomerName()));
+        }
+    }
+
+    private static ThreadFactory sendThreadFactory() {
+        AtomicInteger created = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "order-stream-send-" + created.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
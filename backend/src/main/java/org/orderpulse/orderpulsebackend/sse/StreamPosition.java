@@ -0,0 +1,93 @@
+package org.orderpulse.orderpulsebackend.sse;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Position of an order event stream: the last order-events offset delivered per partition.
+ * Sent to clients as the SSE event ID ("0:1041,1:977,2:1203") and read back from the
+ * Last-Event-ID header on reconnect. Offsets are cluster-wide, so a position issued by one
+ * node can be resumed on any other.
+ *
+ * Not thread-safe; each stream owns its own instance.
+ */
+public final class StreamPosition {
+
+    private static final char PARTITION_SEPARATOR = ',';
+    private static final char OFFSET_SEPARATOR = ':';
+
+    private final Map<Integer, Long> offsets;
+
+    private StreamPosition(Map<Integer, Long> offsets) {
+        this.offsets = new TreeMap<>(offsets);
+    }
+
+    /**
+     * Creates a position from the last offset per partition.
+     */
+    public static StreamPosition of(Map<Integer, Long> offsets) {
+        return new StreamPosition(offsets);
+    }
+
+    /**
+     * Parses a position previously produced by {@link #encode()}.
+     *
+     * @param lastEventId The Last-Event-ID header value
+     * @return The position, or null if the value is absent or malformed
+     */
+    public static StreamPosition parse(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        Map<Integer, Long> offsets = new TreeMap<>();
+        try {
+            for (String part : lastEventId.split(String.valueOf(PARTITION_SEPARATOR))) {
+                int separator = part.indexOf(OFFSET_SEPARATOR);
+                if (separator < 0) {
+                    return null;
+                }
+                offsets.put(Integer.parseInt(part.substring(0, separator).trim()),
+                    Long.parseLong(part.substring(separator + 1).trim()));
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return new StreamPosition(offsets);
+    }
+
+    /**
+     * Encodes this position as an SSE event ID.
+     */
+    public String encode() {
+        StringBuilder id = new StringBuilder();
+        offsets.forEach((partition, offset) -> {
+            if (!id.isEmpty()) {
+                id.append(PARTITION_SEPARATOR);
+            }
+            id.append(partition).append(OFFSET_SEPARATOR).append(offset);
+        });
+        return id.toString();
+    }
+
+    /**
+     * Last delivered offset of a partition, or null if nothing of it has been delivered.
+     */
+    public Long get(int partition) {
+        return offsets.get(partition);
+    }
+
+    /**
+     * Records that an offset of a partition has been delivered.
+     */
+    public void advance(int partition, long offset) {
+        offsets.merge(partition, offset, Math::max);
+    }
+
+    /**
+     * Read-only view of the last offset per partition.
+     */
+    public Map<Integer, Long> offsets() {
+        return Collections.unmodifiableMap(offsets);
+    }
+}
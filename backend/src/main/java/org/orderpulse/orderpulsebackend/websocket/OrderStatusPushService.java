@@ -0,0 +1,91 @@
+package org.orderpulse.orderpulsebackend.websocket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.orderpulse.orderpulsebackend.config.WebSocketConfig;
+import org.orderpulse.orderpulsebackend.dto.OrderStatusUpdate;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes order changes to WebSocket subscribers.
+ *
+ * Receives every order event of the cluster from LiveOrderEventListener, which reads the
+ * topic in a consumer group of its own per node.
+ *
+ * Events for destinations without subscribers on this node are dropped (SubscriptionIndex).
+ * The rest are coalesced per order and flushed every orderpulse.websocket.flush-interval-ms,
+ * so an order that changes several times within one interval produces a single message
+ * carrying its latest state.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatusPushService {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SubscriptionIndex subscriptionIndex;
+
+    // Latest pending update per order ID
+    private final Map<Long, OrderStatusUpdate> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Queues an event for the next flush if anyone on this node is subscribed to it.
+     *
+     * @param event The order event
+     */
+    public void offer(OrderEvent event) {
+        if (event.getOrderId() == null || !isWatched(event.getOrderId(), event.getCustomerName())) {
+            return;
+        }
+        OrderStatusUpdate update = OrderStatusUpdate.from(event);
+        pending.merge(event.getOrderId(), update,
+            (current, incoming) -> incoming.supersedes(current) ? incoming : current);
+    }
+
+    /**
+     * Sends the pending updates to their order and customer destinations.
+     */
+    @Scheduled(fixedDelayString = "${orderpulse.websocket.flush-interval-ms:250}")
+    public void flush() {
+        for (Long orderId : pending.keySet()) {
+            OrderStatusUpdate update = pending.remove(orderId);
+            if (update == null) {
+                continue;
+            }
+            try {
+                send(orderDestination(orderId), update);
+                if (update.getCustomerName() != null) {
+                    send(customerDestination(update.getCustomerName()), update);
+                }
+            } catch (MessagingException e) {
+                log.warn("Failed to push update for order {}: {}", orderId, e.getMessage());
+            }
+        }
+    }
+
+    private void send(String destination, OrderStatusUpdate update) {
+        if (subscriptionIndex.hasSubscribers(destination)) {
+            messagingTemplate.convertAndSend(destination, update);
+        }
+    }
+
+    private boolean isWatched(Long orderId, String customerName) {
+        return subscriptionIndex.hasSubscribers(orderDestination(orderId))
+            || (customerName != null && subscriptionIndex.hasSubscribers(customerDestination(customerName)));
+    }
+
+    static String orderDestination(Long orderId) {
+        return WebSocketConfig.ORDER_DESTINATION_PREFIX + orderId;
+    }
+
+    static String customerDestination(String customerName) {
+        return WebSocketConfig.CUSTOMER_DESTINATION_PREFIX + customerName;
+    }
+}
@@ -0,0 +1,86 @@
+package org.orderpulse.orderpulsebackend.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.orderpulse.orderpulsebackend.config.WebSocketConfig;
+import org.orderpulse.orderpulsebackend.security.JwtPrincipalResolver;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Secures the STOMP session.
+ *
+ * The WebSocket handshake itself is public (browsers cannot send an Authorization header on it),
+ * so the JWT is taken from the CONNECT frame instead and validated like an HTTP request's.
+ * Subscriptions require an authenticated session and are limited to single order or customer
+ * destinations; wildcard patterns are rejected so no client can receive every order.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtPrincipalResolver jwtPrincipalResolver;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader(AUTHORIZATION_HEADER)));
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            if (accessor.getUser() == null) {
+                throw new AccessDeniedException("Subscription requires an authenticated session");
+            }
+            if (!isAllowedDestination(accessor.getDestination())) {
+                throw new AccessDeniedException("Subscription to " + accessor.getDestination() + " is not allowed");
+            }
+        }
+        return message;
+    }
+
+    /**
+     * Resolves the principal of a CONNECT frame's bearer token.
+     *
+     * @throws BadCredentialsException if the token is missing or invalid, which closes the session
+     */
+    private UsernamePasswordAuthenticationToken authenticate(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            throw new BadCredentialsException("Missing bearer token");
+        }
+        UserDetails userDetails = jwtPrincipalResolver.resolve(authHeader.substring(BEARER_PREFIX.length()));
+        if (userDetails == null) {
+            throw new BadCredentialsException("Invalid or expired token");
+        }
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    /**
+     * Whether a destination names exactly one order or customer.
+     */
+    static boolean isAllowedDestination(String destination) {
+        if (destination == null || destination.contains("*") || destination.contains("{")) {
+            return false;
+        }
+        return hasSuffix(destination, WebSocketConfig.ORDER_DESTINATION_PREFIX)
+            || hasSuffix(destination, WebSocketConfig.CUSTOMER_DESTINATION_PREFIX);
+    }
+
+    private static boolean hasSuffix(String destination, String prefix) {
+        return destination.startsWith(prefix) && destination.length() > prefix.length();
+    }
+}
@@ -0,0 +1,33 @@
+-- Schema as previously created by Hibernate (ddl-auto=update).
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate),
+-- so this script only runs on empty databases.
+
+CREATE SEQUENCE IF NOT EXISTS orders_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS orders (
+    id            BIGINT         NOT NULL PRIMARY KEY,
+    customer_name VARCHAR(255)   NOT NULL,
+    total_amount  NUMERIC(38, 2) NOT NULL,
+    items         TEXT           NOT NULL,
+    status        VARCHAR(255),
+    created_at    TIMESTAMP(6)   NOT NULL,
+    updated_at    TIMESTAMP(6)   NOT NULL,
+    notes         VARCHAR(255),
+    version       BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_id VARCHAR(255) NOT NULL,
+    event_type   VARCHAR(255) NOT NULL,
+    payload      BYTEA        NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) NOT NULL UNIQUE,
+    role     VARCHAR(255)
+);
@@ -0,0 +1,15 @@
+-- Outbox payloads became binary OrderEvent records. ddl-auto=update never changes a column's
+-- type, so databases created before that still have a text payload column. Pending rows hold
+-- JSON the consumers can no longer read, so they are dropped along with the conversion.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema()
+                 AND table_name = 'outbox_events'
+                 AND column_name = 'payload'
+                 AND data_type <> 'bytea') THEN
+        DELETE FROM outbox_events;
+        ALTER TABLE outbox_events ALTER COLUMN payload TYPE BYTEA USING convert_to(payload, 'UTF8');
+    END IF;
+END
+$$;
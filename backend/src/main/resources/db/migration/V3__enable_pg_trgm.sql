@@ -0,0 +1,2 @@
+-- Trigram matching for substring search on customer names (see V4)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
@@ -0,0 +1,20 @@
+-- Indexes backing the order listing queries in OrderRepository.
+-- Built CONCURRENTLY so existing tables stay writable; Flyway runs these statements
+-- outside a transaction.
+
+-- Status listings: findByStatus, findByStatusAndCreatedAtBetween and the keyset pages
+-- ordered by (created_at, id)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_status_created_at
+    ON orders (status, created_at, id);
+
+-- Customer listings: keyset pages ordered by (created_at, id)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_customer_created_at
+    ON orders (customer_name, created_at, id);
+
+-- findOrdersByStatusAndMinAmount
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_status_total_amount
+    ON orders (status, total_amount);
+
+-- Case-insensitive substring search: findByCustomerNameContainingIgnoreCase
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_customer_name_trgm
+    ON orders USING gin (lower(customer_name) gin_trgm_ops);
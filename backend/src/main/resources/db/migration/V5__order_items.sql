@@ -0,0 +1,47 @@
+-- Order line items move from the free-form JSON in orders.items to their own table,
+-- so they can be queried per SKU and are only read when needed.
+
+CREATE SEQUENCE IF NOT EXISTS order_items_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS order_items (
+    id           BIGINT         NOT NULL PRIMARY KEY,
+    order_id     BIGINT         NOT NULL REFERENCES orders (id) ON DELETE CASCADE,
+    sku          VARCHAR(64)    NOT NULL,
+    product_name VARCHAR(255),
+    quantity     INTEGER        NOT NULL,
+    unit_price   NUMERIC(38, 2) NOT NULL
+);
+
+-- Batch fetching of an order's items: WHERE order_id IN (...)
+CREATE INDEX IF NOT EXISTS idx_order_items_order_id ON order_items (order_id);
+
+-- Per-SKU lookups: findFirstPageBySku / findNextPageBySku
+CREATE INDEX IF NOT EXISTS idx_order_items_sku ON order_items (sku, order_id);
+
+-- Copy existing items that are a JSON array of {sku, productName, quantity, unitPrice}.
+-- Rows that don't parse are skipped and keep their original text in orders.legacy_items.
+-- Each ID is a value taken from the sequence, so it never collides with the blocks
+-- Hibernate's pooled optimizer reserves later.
+DO $$
+DECLARE
+    legacy RECORD;
+BEGIN
+    FOR legacy IN SELECT id, items FROM orders WHERE items IS NOT NULL AND items <> '' LOOP
+        BEGIN
+            INSERT INTO order_items (id, order_id, sku, product_name, quantity, unit_price)
+            SELECT nextval('order_items_seq'),
+                   legacy.id,
+                   item ->> 'sku',
+                   item ->> 'productName',
+                   (item ->> 'quantity')::INTEGER,
+                   (item ->> 'unitPrice')::NUMERIC(38, 2)
+            FROM jsonb_array_elements(legacy.items::JSONB) AS item;
+        EXCEPTION WHEN OTHERS THEN
+            RAISE NOTICE 'Order % items not migrated: %', legacy.id, SQLERRM;
+        END;
+    END LOOP;
+END $$;
+
+-- Kept (no longer mapped) so unmigrated rows can be repaired by hand; drop in a later migration.
+ALTER TABLE orders RENAME COLUMN items TO legacy_items;
+ALTER TABLE orders ALTER COLUMN legacy_items DROP NOT NULL;
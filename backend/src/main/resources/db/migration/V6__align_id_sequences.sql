@@ -0,0 +1,11 @@
+-- Databases created before Flyway were baselined at V1, so V1's orders_seq was never
+-- created there with the right start value: Hibernate created it (or it is missing) and it
+-- starts at 1 while orders already has IDs, so the first insert would collide.
+-- Move each sequence past the highest ID in use. Hibernate's pooled optimizer treats a
+-- fetched value as the top of its block, so after setval(max) the next block starts at max + 1.
+
+CREATE SEQUENCE IF NOT EXISTS orders_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('orders_seq', GREATEST((SELECT COALESCE(max(id), 0) FROM orders), 1));
+
+CREATE SEQUENCE IF NOT EXISTS order_items_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('order_items_seq', GREATEST((SELECT COALESCE(max(id), 0) FROM order_items), 1));
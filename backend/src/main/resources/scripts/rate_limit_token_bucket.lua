@@ -0,0 +1,33 @@
+-- Token bucket with continuous (greedy) refill, consumed atomically on the Redis server.
+-- KEYS[1] bucket key
+-- ARGV[1] capacity, ARGV[2] refill period in ms, ARGV[3] tokens requested
+-- Returns {granted, remaining, ms until the next token when nothing was granted}
+local capacity = tonumber(ARGV[1])
+local period_ms = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+-- Use the server clock so every node refills against the same time source
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * capacity / period_ms)
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+-- An untouched bucket is full again after one period, so the key can expire
+redis.call('PEXPIRE', KEYS[1], period_ms)
+
+local wait_ms = 0
+if granted == 0 then
+    wait_ms = math.ceil((1 - tokens) * period_ms / capacity)
+end
+return {granted, math.floor(tokens), wait_ms}
@@ -0,0 +1,214 @@
+package org.orderpulse.orderpulsebackend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TwoLevelCache.
+ */
+class TwoLevelCacheTest {
+
+    private CaffeineCache nearCache;
+    private Cache remoteCache;
+    private List<String> published;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new CaffeineCache("orders", Caffeine.newBuilder().build());
+        remoteCache = spy(new ConcurrentMapCache("orders", false));
+        published = new ArrayList<>();
+        cache = new TwoLevelCache(nearCache, remoteCache, published::add);
+    }
+
+    /**
+     * Test a near hit is served without consulting the remote tier
+     */
+    @Test
+    void get_WhenNearHit_ShouldNotReadRemote() {
+        // Arrange
+        nearCache.put(1L, "order-1");
+
+        // Act & Assert
+        assertEquals("order-1", cache.get(1L).get());
+        assertEquals("order-1", cache.get(1L, String.class));
+        verify(remoteCache, never()).get(any());
+        verify(remoteCache, never()).get(any(), eq(String.class));
+    }
+
+    /**
+     * Test a remote hit is copied into the near tier
+     */
+    @Test
+    void get_WhenRemoteHit_ShouldBackfillNear() {
+        // Arrange
+        remoteCache.put(1L, "order-1");
+
+        // Act
+        Cache.ValueWrapper value = cache.get(1L);
+
+        // Assert
+        assertEquals("order-1", value.get());
+        assertEquals("order-1", nearCache.get(1L, String.class));
+    }
+
+    /**
+     * Test a miss in both tiers calls the loader once and caches the result in both
+     */
+    @Test
+    void getWithLoader_WhenMissing_ShouldLoadOnceIntoBothTiers() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        String first = cache.get(1L, () -> "order-" + loads.incrementAndGet());
+        String second = cache.get(1L, () -> "order-" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("order-1", first);
+        assertEquals("order-1", second);
+        assertEquals(1, loads.get());
+        assertEquals("order-1", nearCache.get(1L, String.class));
+        assertEquals("order-1", remoteCache.get(1L, String.class));
+    }
+
+    /**
+     * Test concurrent misses for one key share a single load
+     */
+    @Test
+    void getWithLoader_WhenConcurrentMisses_ShouldShareOneLoad() throws Exception {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // Act
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get(1L, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "order-1";
+            })));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.get(1L, () -> "order-" + (loads.incrementAndGet() + 1))));
+            }
+            release.countDown();
+
+            // Assert
+            for (Future<String> result : results) {
+                assertEquals("order-1", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test a loader failure reaches the caller as ValueRetrievalException and caches nothing
+     */
+    @Test
+    void getWithLoader_WhenLoaderFails_ShouldPropagateAndCacheNothing() {
+        // Arrange
+        IllegalStateException failure = new IllegalStateException("database down");
+
+        // Act
+        Cache.ValueRetrievalException thrown = assertThrows(Cache.ValueRetrievalException.class,
+            () -> cache.get(1L, () -> { throw failure; }));
+
+        // Assert
+        assertSame(failure, thrown.getCause());
+        assertNull(nearCache.get(1L));
+        assertNull(remoteCache.get(1L));
+    }
+
+    /**
+     * Test put, evict and clear update both tiers and broadcast the key
+     */
+    @Test
+    void writes_ShouldUpdateBothTiersAndBroadcast() {
+        // Act
+        cache.put(1L, "order-1");
+        cache.put(2L, "order-2");
+        cache.evict(1L);
+
+        // Assert
+        assertNull(nearCache.get(1L));
+        assertNull(remoteCache.get(1L));
+        assertEquals("order-2", nearCache.get(2L, String.class));
+
+        // Act
+        cache.clear();
+
+        // Assert
+        assertNull(nearCache.get(2L));
+        assertNull(remoteCache.get(2L));
+        assertEquals(4, published.size());
+        assertTrue(published.get(0).endsWith(" 1"));
+        assertTrue(published.get(2).endsWith(" 1"));
+        assertTrue(published.get(3).endsWith(" " + TwoLevelCache.CLEAR_ALL));
+    }
+
+    /**
+     * Test an instance ignores its own broadcast, so a put keeps its near copy
+     */
+    @Test
+    void onInvalidation_WhenOwnMessage_ShouldKeepNearEntry() {
+        // Arrange
+        cache.put(1L, "order-1");
+
+        // Act
+        cache.onInvalidation(published.get(0), Long::valueOf);
+
+        // Assert
+        assertEquals("order-1", nearCache.get(1L, String.class));
+    }
+
+    /**
+     * Test another instance's messages evict the key or clear the near tier only
+     */
+    @Test
+    void onInvalidation_WhenOtherInstance_ShouldDropNearCopies() {
+        // Arrange
+        List<String> otherPublished = new ArrayList<>();
+        TwoLevelCache other = new TwoLevelCache(
+            new CaffeineCache("orders", Caffeine.newBuilder().build()), remoteCache, otherPublished::add);
+        cache.put(1L, "order-1");
+        cache.put(2L, "order-2");
+
+        // Act
+        other.evict(1L);
+        cache.onInvalidation(otherPublished.get(0), Long::valueOf);
+
+        // Assert
+        assertNull(nearCache.get(1L));
+        assertEquals("order-2", nearCache.get(2L, String.class));
+
+        // Act
+        other.clear();
+        cache.onInvalidation(otherPublished.get(1), Long::valueOf);
+
+        // Assert
+        assertNull(nearCache.get(2L));
+    }
+}
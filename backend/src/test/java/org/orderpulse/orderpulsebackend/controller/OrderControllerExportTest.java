@@ -0,0 +1,114 @@
+package org.orderpulse.orderpulsebackend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orderpulse.orderpulsebackend.dto.OrderSummary;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.orderpulse.orderpulsebackend.service.OrderService;
+import org.orderpulse.orderpulsebackend.sse.OrderStreamService;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for the NDJSON order export endpoint of OrderController.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderControllerExportTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderStreamService orderStreamService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        OrderController controller = new OrderController(orderService, orderStreamService, objectMapper);
+        ReflectionTestUtils.setField(controller, "exportTimeout", Duration.ofMinutes(1));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    /**
+     * Test the export streams one JSON order per line as NDJSON, filtered by status, with its own timeout
+     */
+    @Test
+    void exportOrders_ShouldStreamOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<OrderSummary> consumer = invocation.getArgument(1);
+            consumer.accept(summary(1L, "Alice"));
+            consumer.accept(summary(2L, "Bob"));
+            return null;
+        }).when(orderService).exportOrders(eq(OrderStatus.PENDING), any());
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/orders/export").param("status", "PENDING"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn();
+
+        // Assert
+        assertEquals(Duration.ofMinutes(1).toMillis(), started.getRequest().getAsyncContext().getTimeout());
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals("Alice", first.get("customerName").asText());
+        assertEquals("PENDING", first.get("status").asText());
+        assertEquals(2L, second.get("id").asLong());
+        verify(orderService).exportOrders(eq(OrderStatus.PENDING), any());
+    }
+
+    /**
+     * Test an export without a status filter exports all orders
+     */
+    @Test
+    void exportOrders_WithoutStatus_ShouldExportAllOrders() throws Exception {
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/orders/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().string(""));
+
+        // Assert
+        verify(orderService).exportOrders(isNull(), any());
+    }
+
+    private static OrderSummary summary(Long id, String customerName) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        return new OrderSummary(id, customerName, new BigDecimal("19.99"), null,
+            OrderStatus.PENDING, createdAt, createdAt, 0L);
+    }
+}
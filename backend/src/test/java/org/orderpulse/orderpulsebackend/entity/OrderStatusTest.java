@@ -0,0 +1,56 @@
+package org.orderpulse.orderpulsebackend.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the order status transition table.
+ */
+class OrderStatusTest {
+
+    /**
+     * Test the forward path of an order is allowed and backward moves are not
+     */
+    @Test
+    void canTransitionTo_ShouldFollowStateMachine() {
+        // Assert
+        assertTrue(OrderStatus.PENDING.canTransitionTo(OrderStatus.CONFIRMED));
+        assertTrue(OrderStatus.READY.canTransitionTo(OrderStatus.DELIVERED));
+        assertTrue(OrderStatus.DELIVERED.canTransitionTo(OrderStatus.REFUNDED));
+        assertFalse(OrderStatus.DELIVERED.canTransitionTo(OrderStatus.PENDING));
+        assertFalse(OrderStatus.IN_TRANSIT.canTransitionTo(OrderStatus.CANCELLED));
+        assertFalse(OrderStatus.CONFIRMED.canTransitionTo(OrderStatus.CONFIRMED));
+    }
+
+    /**
+     * Test final statuses allow no further transition
+     */
+    @Test
+    void canTransitionTo_FromRefunded_ShouldRejectAll() {
+        // Assert
+        for (OrderStatus target : OrderStatus.values()) {
+            assertFalse(OrderStatus.REFUNDED.canTransitionTo(target), "REFUNDED -> " + target);
+        }
+    }
+
+    /**
+     * Test the allowed previous statuses agree with the transition table
+     */
+    @Test
+    void allowedPreviousNames_ShouldListPredecessors() {
+        // Assert
+        assertEquals(List.of(), OrderStatus.PENDING.allowedPreviousNames());
+        assertEquals(List.of("PENDING", "CONFIRMED", "PREPARING", "READY"),
+            OrderStatus.CANCELLED.allowedPreviousNames());
+        assertEquals(List.of("DELIVERED", "CANCELLED"), OrderStatus.REFUNDED.allowedPreviousNames());
+        for (OrderStatus target : OrderStatus.values()) {
+            for (OrderStatus source : OrderStatus.values()) {
+                assertEquals(source.canTransitionTo(target), target.allowedPreviousNames().contains(source.name()),
+                    source + " -> " + target);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.orderpulse.orderpulsebackend.interceptor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orderpulse.orderpulsebackend.config.RateLimitConfig;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RateLimitInterceptor with the in-memory LocalRateLimiter.
+ * Uses a limit of 2 reads and 1 write per hour so refill never interferes.
+ */
+class RateLimitInterceptorTest {
+
+    private RateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitConfig config = new RateLimitConfig();
+        ReflectionTestUtils.setField(config, "readCapacity", 2L);
+        ReflectionTestUtils.setField(config, "readPeriod", Duration.ofHours(1));
+        ReflectionTestUtils.setField(config, "writeCapacity", 1L);
+        ReflectionTestUtils.setField(config, "writePeriod", Duration.ofHours(1));
+        ReflectionTestUtils.setField(config, "maxClients", 100L);
+        ReflectionTestUtils.setField(config, "idleExpiry", Duration.ofHours(1));
+        interceptor = new RateLimitInterceptor(new LocalRateLimiter(config));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Test a client is rejected with 429 once its quota is used up
+     */
+    @Test
+    void preHandle_ShouldRejectWhenClientQuotaExhausted() {
+        // Act
+        boolean first = handle("GET", "10.0.0.1").allowed();
+        boolean second = handle("GET", "10.0.0.1").allowed();
+        Result third = handle("GET", "10.0.0.1");
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third.allowed());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), third.response().getStatus());
+        assertNotNull(third.response().getHeader("X-Rate-Limit-Retry-After-Seconds"));
+    }
+
+    /**
+     * Test a noisy client does not consume another client's quota
+     */
+    @Test
+    void preHandle_ShouldIsolateClients() {
+        // Arrange
+        handle("GET", "10.0.0.1");
+        handle("GET", "10.0.0.1");
+
+        // Act & Assert
+        assertFalse(handle("GET", "10.0.0.1").allowed());
+        assertTrue(handle("GET", "10.0.0.2").allowed());
+    }
+
+    /**
+     * Test reads and writes are limited by separate buckets
+     */
+    @Test
+    void preHandle_ShouldLimitReadsAndWritesSeparately() {
+        // Arrange
+        handle("POST", "10.0.0.1");
+
+        // Act & Assert
+        assertFalse(handle("DELETE", "10.0.0.1").allowed());
+        assertTrue(handle("GET", "10.0.0.1").allowed());
+    }
+
+    /**
+     * Test authenticated requests are limited per principal regardless of address
+     */
+    @Test
+    void preHandle_ShouldKeyAuthenticatedClientsByPrincipal() {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("alice", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        handle("POST", "10.0.0.1");
+
+        // Act & Assert
+        assertFalse(handle("POST", "10.0.0.2").allowed());
+    }
+
+    private Result handle(String method, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/orders");
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean allowed = interceptor.preHandle(request, response, new Object());
+        return new Result(allowed, response);
+    }
+
+    private record Result(boolean allowed, MockHttpServletResponse response) {
+    }
+}
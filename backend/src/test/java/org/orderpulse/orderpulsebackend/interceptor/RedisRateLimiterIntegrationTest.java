@@ -0,0 +1,119 @@
+package org.orderpulse.orderpulsebackend.interceptor;
+
+import io.github.bucket4j.ConsumptionProbe;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orderpulse.orderpulsebackend.config.RateLimitConfig;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for RedisRateLimiter against a Redis container.
+ * Runs the real token bucket script (scripts/rate_limit_token_bucket.lua) through
+ * StringRedisTemplate, covering the script arguments and the decoding of its result.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisRateLimiterIntegrationTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RateLimitConfig config;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        config = new RateLimitConfig();
+        ReflectionTestUtils.setField(config, "readCapacity", 5L);
+        ReflectionTestUtils.setField(config, "readPeriod", Duration.ofHours(1));
+        ReflectionTestUtils.setField(config, "writeCapacity", 5L);
+        ReflectionTestUtils.setField(config, "writePeriod", Duration.ofHours(1));
+        ReflectionTestUtils.setField(config, "maxClients", 100L);
+        ReflectionTestUtils.setField(config, "idleExpiry", Duration.ofHours(1));
+    }
+
+    /**
+     * Test the script grants at most the requested tokens and reports what is left in Redis
+     */
+    @Test
+    void fetch_ShouldGrantRequestedTokensFromSharedBucket() {
+        // Arrange
+        RedisRateLimiter limiter = limiter(10);
+        RateLimitKey key = new RateLimitKey("user:alice", RateLimitGroup.READ);
+
+        // Act
+        RedisRateLimiter.TokenGrant first = limiter.fetch(key, 3);
+        RedisRateLimiter.TokenGrant second = limiter.fetch(key, 3);
+        RedisRateLimiter.TokenGrant empty = limiter.fetch(key, 3);
+
+        // Assert
+        assertEquals(3, first.granted());
+        assertEquals(2, first.remaining());
+        assertEquals(2, second.granted());
+        assertEquals(0, second.remaining());
+        assertEquals(0, empty.granted());
+        assertTrue(empty.waitMillis() > 0);
+        assertTrue(redisTemplate.getExpire("orderpulse:rate-limit:read:user:alice") > 0);
+    }
+
+    /**
+     * Test two instances share one quota and the limit holds across them
+     */
+    @Test
+    void tryConsume_ShouldShareQuotaAcrossInstances() {
+        // Arrange
+        RedisRateLimiter first = limiter(2);
+        RedisRateLimiter second = limiter(2);
+        RateLimitKey key = new RateLimitKey("user:bob", RateLimitGroup.WRITE);
+        int allowed = 0;
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            if ((i % 2 == 0 ? first : second).tryConsume(key).isConsumed()) {
+                allowed++;
+            }
+        }
+        ConsumptionProbe rejected = first.tryConsume(key);
+
+        // Assert
+        assertEquals(5, allowed);
+        assertFalse(rejected.isConsumed());
+        assertTrue(rejected.getNanosToWaitForRefill() > 0);
+    }
+
+    private RedisRateLimiter limiter(long prefetch) {
+        return new RedisRateLimiter(redisTemplate, config, prefetch, Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,161 @@
+package org.orderpulse.orderpulsebackend.interceptor;
+
+import io.github.bucket4j.ConsumptionProbe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orderpulse.orderpulsebackend.config.RateLimitConfig;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RedisRateLimiter token prefetching.
+ * The Redis script is replaced by an in-memory shared bucket that never refills.
+ */
+class RedisRateLimiterTest {
+
+    private static final RateLimitKey KEY = new RateLimitKey("user:alice", RateLimitGroup.READ);
+
+    private RateLimitConfig config;
+    private long sharedTokens;
+    private List<Long> requests;
+    private boolean redisDown;
+    private int failedFetches;
+
+    @BeforeEach
+    void setUp() {
+        config = new RateLimitConfig();
+        ReflectionTestUtils.setField(config, "readCapacity", 20L);
+        ReflectionTestUtils.setField(config, "readPeriod", Duration.ofHours(1));
+        ReflectionTestUtils.setField(config, "writeCapacity", 20L);
+        ReflectionTestUtils.setField(config, "writePeriod", Duration.ofHours(1));
+        ReflectionTestUtils.setField(config, "maxClients", 100L);
+        ReflectionTestUtils.setField(config, "idleExpiry", Duration.ofHours(1));
+        sharedTokens = 20;
+        requests = new ArrayList<>();
+        redisDown = false;
+        failedFetches = 0;
+    }
+
+    /**
+     * Test the prefetch batch grows with traffic so most requests skip Redis
+     */
+    @Test
+    void tryConsume_ShouldPrefetchGrowingBatches() {
+        // Arrange
+        RedisRateLimiter limiter = limiter(4);
+
+        // Act
+        for (int i = 0; i < 11; i++) {
+            assertTrue(limiter.tryConsume(KEY).isConsumed());
+        }
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 4L, 4L), requests);
+    }
+
+    /**
+     * Test the shared limit is never exceeded and rejections report a wait time
+     */
+    @Test
+    void tryConsume_ShouldRejectWhenSharedBucketEmpty() {
+        // Arrange
+        RedisRateLimiter limiter = limiter(10);
+        int allowed = 0;
+
+        // Act
+        for (int i = 0; i < 30; i++) {
+            if (limiter.tryConsume(KEY).isConsumed()) {
+                allowed++;
+            }
+        }
+        ConsumptionProbe rejected = limiter.tryConsume(KEY);
+
+        // Assert
+        assertEquals(20, allowed);
+        assertFalse(rejected.isConsumed());
+        assertTrue(rejected.getNanosToWaitForRefill() > 0);
+    }
+
+    /**
+     * Test requests fall back to per-instance limits while Redis is unreachable
+     */
+    @Test
+    void tryConsume_ShouldFallBackToLocalLimitWhenRedisDown() {
+        // Arrange
+        RedisRateLimiter limiter = limiter(4);
+        redisDown = true;
+
+        // Act
+        ConsumptionProbe probe = limiter.tryConsume(KEY);
+
+        // Assert
+        assertTrue(probe.isConsumed());
+        assertEquals(19, probe.getRemainingTokens());
+    }
+
+    /**
+     * Test Redis is not called again until the retry interval has passed
+     */
+    @Test
+    void tryConsume_ShouldNotRetryRedisBeforeRetryInterval() {
+        // Arrange
+        RedisRateLimiter limiter = limiter(4, Duration.ofHours(1));
+        redisDown = true;
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryConsume(KEY).isConsumed());
+        }
+        redisDown = false;
+        limiter.tryConsume(KEY);
+
+        // Assert
+        assertEquals(1, failedFetches);
+        assertTrue(requests.isEmpty());
+    }
+
+    /**
+     * Test Redis is used again once a retry after the interval succeeds
+     */
+    @Test
+    void tryConsume_ShouldReturnToRedisAfterRetryInterval() {
+        // Arrange
+        RedisRateLimiter limiter = limiter(4, Duration.ZERO);
+        redisDown = true;
+        limiter.tryConsume(KEY);
+        redisDown = false;
+
+        // Act
+        ConsumptionProbe probe = limiter.tryConsume(KEY);
+
+        // Assert
+        assertTrue(probe.isConsumed());
+        assertEquals(List.of(1L), requests);
+    }
+
+    private RedisRateLimiter limiter(long prefetch) {
+        return limiter(prefetch, Duration.ofSeconds(5));
+    }
+
+    private RedisRateLimiter limiter(long prefetch, Duration retryInterval) {
+        return new RedisRateLimiter(null, config, prefetch, retryInterval) {
+            @Override
+            TokenGrant fetch(RateLimitKey key, long requested) {
+                if (redisDown) {
+                    failedFetches++;
+                    throw new RedisConnectionFailureException("Connection refused");
+                }
+                requests.add(requested);
+                long granted = Math.min(requested, sharedTokens);
+                sharedTokens -= granted;
+                return new TokenGrant(granted, sharedTokens, granted == 0 ? 1000 : 0);
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package org.orderpulse.orderpulsebackend.kafka;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for KeyOrderedExecutor.
+ */
+class KeyOrderedExecutorTest {
+
+    private KeyOrderedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KeyOrderedExecutor(4, 100, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Test tasks for the same key run in submission order
+     */
+    @Test
+    void submit_ShouldPreserveOrderPerKey() throws Exception {
+        // Arrange
+        Map<Long, List<Integer>> seen = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            long orderId = i % 10;
+            int sequence = i;
+            futures.add(executor.submit(orderId, () ->
+                seen.computeIfAbsent(orderId, k -> Collections.synchronizedList(new ArrayList<>())).add(sequence)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(10, seen.size());
+        seen.values().forEach(sequences -> {
+            List<Integer> sorted = new ArrayList<>(sequences);
+            Collections.sort(sorted);
+            assertEquals(sorted, sequences);
+        });
+    }
+
+    /**
+     * Test a blocked key does not stall keys on other lanes
+     */
+    @Test
+    void submit_ShouldRunDifferentLanesInParallel() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(0L, () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // Act
+        CompletableFuture<Void> other = executor.submit(1L, () -> { });
+
+        // Assert
+        assertDoesNotThrow(() -> other.get(1, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    /**
+     * Test a failing task completes its future exceptionally
+     */
+    @Test
+    void submit_ShouldPropagateTaskFailure() {
+        // Act
+        CompletableFuture<Void> future = executor.submit(1L, () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // Assert
+        assertThrows(Exception.class, () -> future.get(1, TimeUnit.SECONDS));
+    }
+}
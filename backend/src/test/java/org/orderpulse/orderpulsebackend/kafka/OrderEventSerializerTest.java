@@ -0,0 +1,177 @@
+package org.orderpulse.orderpulsebackend.kafka;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.orderpulse.orderpulsebackend.config.KafkaTopicConfig;
+import org.orderpulse.orderpulsebackend.entity.Order;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.orderpulse.orderpulsebackend.event.OrderEventType;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the binary order event format (OrderEventSerializer / OrderEventDeserializer).
+ */
+class OrderEventSerializerTest {
+
+    private final OrderEventSerializer serializer = new OrderEventSerializer();
+    private final OrderEventDeserializer deserializer = new OrderEventDeserializer();
+
+    /**
+     * Test a fully populated event survives a round trip unchanged
+     */
+    @Test
+    void roundTrip_ShouldPreserveAllFields() {
+        // Arrange
+        OrderEvent event = OrderEvent.builder()
+            .eventId(UUID.randomUUID())
+            .type(OrderEventType.UPDATE)
+            .orderId(42L)
+            .orderVersion(7L)
+            .status(OrderStatus.PREPARING)
+            .customerName("Zoë Müller")
+            .totalAmount(new BigDecimal("1234.50"))
+            .occurredAt(Instant.ofEpochMilli(1_700_000_000_123L))
+            .build();
+
+        // Act
+        OrderEvent decoded = deserializer.deserialize(KafkaTopicConfig.ORDER_TOPIC, serializer.serialize(event));
+
+        // Assert
+        assertEquals(event, decoded);
+    }
+
+    /**
+     * Test optional fields that are null stay null and take no space
+     */
+    @Test
+    void roundTrip_ShouldHandleMissingOptionalFields() {
+        // Arrange
+        OrderEvent event = OrderEvent.builder()
+            .eventId(UUID.randomUUID())
+            .type(OrderEventType.DELETE)
+            .orderId(1L)
+            .occurredAt(Instant.ofEpochMilli(0L))
+            .build();
+
+        // Act
+        byte[] payload = serializer.serialize(event);
+        OrderEvent decoded = deserializer.deserialize(payload);
+
+        // Assert
+        assertEquals(event, decoded);
+        assertEquals(4 + 16 + 8 + 8, payload.length);
+    }
+
+    /**
+     * Test payloads from a newer schema version with appended fields are still readable
+     */
+    @Test
+    void deserialize_ShouldIgnoreFieldsAppendedByNewerVersion() {
+        // Arrange
+        OrderEvent event = OrderEvent.of(order(), OrderEventType.CREATE, Instant.ofEpochMilli(5L));
+        byte[] current = serializer.serialize(event);
+        byte[] newer = Arrays.copyOf(current, current.length + 3);
+        newer[1] = (byte) (OrderEvent.SCHEMA_VERSION + 1);
+
+        // Act
+        OrderEvent decoded = deserializer.deserialize(newer);
+
+        // Assert
+        assertEquals(event, decoded);
+    }
+
+    /**
+     * Test payloads in another format are rejected
+     */
+    @Test
+    void deserialize_ShouldRejectForeignPayload() {
+        // Arrange
+        byte[] json = "{\"orderId\":1}".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(json));
+    }
+
+    /**
+     * Test truncated payloads are rejected
+     */
+    @Test
+    void deserialize_ShouldRejectTruncatedPayload() {
+        // Arrange
+        byte[] payload = serializer.serialize(OrderEvent.of(order(), OrderEventType.CREATE, Instant.now()));
+        byte[] truncated = Arrays.copyOf(payload, payload.length - 1);
+
+        // Act & Assert
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(truncated));
+    }
+
+    /**
+     * Test a status added by a newer producer is decoded as absent and counted
+     */
+    @Test
+    void deserialize_ShouldDecodeUnknownStatusAsAbsent() {
+        // Arrange
+        OrderEvent event = OrderEvent.builder()
+            .eventId(UUID.randomUUID())
+            .type(OrderEventType.UPDATE)
+            .orderId(42L)
+            .orderVersion(3L)
+            .status(OrderStatus.READY)
+            .customerName("Jane")
+            .occurredAt(Instant.ofEpochMilli(1_700_000_000_000L))
+            .build();
+        byte[] payload = replace(serializer.serialize(event), "READY", "LATER");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+
+        try {
+            // Act
+            OrderEvent decoded = deserializer.deserialize(KafkaTopicConfig.ORDER_TOPIC, payload);
+
+            // Assert
+            assertNull(decoded.getStatus());
+            assertEquals(42L, decoded.getOrderId());
+            assertEquals(3L, decoded.getOrderVersion());
+            assertEquals("Jane", decoded.getCustomerName());
+            assertEquals(event.getOccurredAt(), decoded.getOccurredAt());
+            assertEquals(1, registry.get("orderpulse.kafka.consumer.unknown-status").counter().count());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    /**
+     * Replaces an equally long ASCII string in an encoded payload.
+     */
+    private static byte[] replace(byte[] payload, String from, String to) {
+        byte[] search = from.getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i + search.length <= payload.length; i++) {
+            if (Arrays.equals(payload, i, i + search.length, search, 0, search.length)) {
+                byte[] result = payload.clone();
+                System.arraycopy(to.getBytes(StandardCharsets.US_ASCII), 0, result, i, search.length);
+                return result;
+            }
+        }
+        throw new IllegalArgumentException(from + " not found in payload");
+    }
+
+    private static Order order() {
+        Order order = new Order();
+        order.setId(10L);
+        order.setVersion(0L);
+        order.setStatus(OrderStatus.PENDING);
+        order.setCustomerName("John Doe");
+        order.setTotalAmount(new BigDecimal("99.99"));
+        return order;
+    }
+}
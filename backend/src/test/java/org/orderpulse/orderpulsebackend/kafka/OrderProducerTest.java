@@ -0,0 +1,195 @@
+package org.orderpulse.orderpulsebackend.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orderpulse.orderpulsebackend.config.KafkaTopicConfig;
+import org.orderpulse.orderpulsebackend.exception.OrderEventPublishException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderProducer backpressure and delivery metrics.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderProducerTest {
+
+    private static final byte[] PAYLOAD = {1, 2, 3};
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * Test a send acknowledged by the broker releases its slot and is counted as a success
+     */
+    @Test
+    void publishAsync_WhenAcknowledged_ShouldRecordSuccess() throws Exception {
+        // Arrange
+        OrderProducer producer = producer(1, OrderProducer.BackpressureMode.FAIL_FAST, 0);
+        CompletableFuture<SendResult<String, byte[]>> ack = new CompletableFuture<>();
+        when(kafkaTemplate.send(KafkaTopicConfig.ORDER_TOPIC, "1", PAYLOAD)).thenReturn(ack);
+
+        // Act
+        CompletableFuture<SendResult<String, byte[]>> result = producer.publishAsync("1", PAYLOAD);
+
+        // Assert
+        assertFalse(result.isDone());
+        assertEquals(1, inFlight());
+        ack.complete(sendResult("1"));
+        assertNotNull(result.get(1, TimeUnit.SECONDS));
+        assertEquals(0, inFlight());
+        assertEquals(1, sends("success"));
+        assertEquals(0, sends("failure"));
+        assertEquals(1, meterRegistry.get("orderpulse.kafka.producer.ack").tag("result", "success").timer().count());
+    }
+
+    /**
+     * Test FAIL_FAST rejects a send immediately when the window is full
+     */
+    @Test
+    void publishAsync_WhenWindowFullInFailFastMode_ShouldRejectImmediately() {
+        // Arrange
+        OrderProducer producer = producer(1, OrderProducer.BackpressureMode.FAIL_FAST, 5000);
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(new CompletableFuture<>());
+        producer.publishAsync("1", PAYLOAD);
+
+        // Act
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, byte[]>> rejected = producer.publishAsync("2", PAYLOAD);
+
+        // Assert
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertPublishFailure(rejected);
+        assertEquals(1, sends("rejected"));
+        verify(kafkaTemplate, never()).send(anyString(), eq("2"), any(byte[].class));
+    }
+
+    /**
+     * Test BLOCK waits up to the acquire timeout for a slot before rejecting
+     */
+    @Test
+    void publishAsync_WhenWindowFullInBlockMode_ShouldWaitThenReject() {
+        // Arrange
+        OrderProducer producer = producer(1, OrderProducer.BackpressureMode.BLOCK, 200);
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(new CompletableFuture<>());
+        producer.publishAsync("1", PAYLOAD);
+
+        // Act
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, byte[]>> rejected = producer.publishAsync("2", PAYLOAD);
+
+        // Assert
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 150);
+        assertPublishFailure(rejected);
+        assertEquals(1, sends("rejected"));
+    }
+
+    /**
+     * Test BLOCK sends as soon as an acknowledgement frees a slot
+     */
+    @Test
+    void publishAsync_WhenSlotFreedInBlockMode_ShouldSend() throws Exception {
+        // Arrange
+        OrderProducer producer = producer(1, OrderProducer.BackpressureMode.BLOCK, 5000);
+        CompletableFuture<SendResult<String, byte[]>> firstAck = new CompletableFuture<>();
+        when(kafkaTemplate.send(KafkaTopicConfig.ORDER_TOPIC, "1", PAYLOAD)).thenReturn(firstAck);
+        when(kafkaTemplate.send(KafkaTopicConfig.ORDER_TOPIC, "2", PAYLOAD))
+            .thenReturn(CompletableFuture.completedFuture(sendResult("2")));
+        CompletableFuture<SendResult<String, byte[]>> first = producer.publishAsync("1", PAYLOAD);
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(() -> firstAck.complete(sendResult("1")));
+
+        // Act
+        CompletableFuture<SendResult<String, byte[]>> second = producer.publishAsync("2", PAYLOAD);
+
+        // Assert
+        assertNotNull(second.get(1, TimeUnit.SECONDS));
+        assertNotNull(first.get(1, TimeUnit.SECONDS));
+        assertEquals(2, sends("success"));
+        assertEquals(0, sends("rejected"));
+    }
+
+    /**
+     * Test a send that fails synchronously releases its slot
+     */
+    @Test
+    void publishAsync_WhenSendThrows_ShouldReleaseSlot() {
+        // Arrange
+        OrderProducer producer = producer(1, OrderProducer.BackpressureMode.FAIL_FAST, 0);
+        when(kafkaTemplate.send(KafkaTopicConfig.ORDER_TOPIC, "1", PAYLOAD))
+            .thenThrow(new KafkaException("metadata unavailable"));
+        when(kafkaTemplate.send(KafkaTopicConfig.ORDER_TOPIC, "2", PAYLOAD)).thenReturn(new CompletableFuture<>());
+
+        // Act
+        CompletableFuture<SendResult<String, byte[]>> failed = producer.publishAsync("1", PAYLOAD);
+        CompletableFuture<SendResult<String, byte[]>> next = producer.publishAsync("2", PAYLOAD);
+
+        // Assert
+        assertPublishFailure(failed);
+        assertFalse(next.isDone());
+        assertEquals(1, sends("failure"));
+        assertEquals(0, sends("rejected"));
+    }
+
+    /**
+     * Test a send the broker fails releases its slot and is timed as a failure
+     */
+    @Test
+    void publishAsync_WhenAckFails_ShouldReleaseSlotAndRecordFailure() {
+        // Arrange
+        OrderProducer producer = producer(1, OrderProducer.BackpressureMode.FAIL_FAST, 0);
+        CompletableFuture<SendResult<String, byte[]>> ack = new CompletableFuture<>();
+        when(kafkaTemplate.send(KafkaTopicConfig.ORDER_TOPIC, "1", PAYLOAD)).thenReturn(ack);
+        CompletableFuture<SendResult<String, byte[]>> result = producer.publishAsync("1", PAYLOAD);
+
+        // Act
+        ack.completeExceptionally(new KafkaException("broker unavailable"));
+
+        // Assert
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(0, inFlight());
+        assertEquals(1, sends("failure"));
+        assertEquals(0, sends("success"));
+        assertEquals(1, meterRegistry.get("orderpulse.kafka.producer.ack").tag("result", "failure").timer().count());
+    }
+
+    private OrderProducer producer(int maxInFlight, OrderProducer.BackpressureMode mode, long acquireTimeoutMs) {
+        return new OrderProducer(kafkaTemplate, meterRegistry, maxInFlight, mode, acquireTimeoutMs);
+    }
+
+    private double sends(String result) {
+        return meterRegistry.get("orderpulse.kafka.producer.sends").tag("result", result).counter().count();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("orderpulse.kafka.producer.in-flight").gauge().value();
+    }
+
+    private static void assertPublishFailure(CompletableFuture<?> future) {
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(OrderEventPublishException.class, thrown.getCause());
+    }
+
+    private static SendResult<String, byte[]> sendResult(String key) {
+        return new SendResult<>(new ProducerRecord<>(KafkaTopicConfig.ORDER_TOPIC, key, PAYLOAD),
+            new RecordMetadata(new TopicPartition(KafkaTopicConfig.ORDER_TOPIC, 0), 0L, 0, 0L, 0, 0));
+    }
+}
@@ -0,0 +1,242 @@
+package org.orderpulse.orderpulsebackend.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orderpulse.orderpulsebackend.entity.Order;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.orderpulse.orderpulsebackend.security.PrincipalCache;
+import org.orderpulse.orderpulsebackend.security.UserCacheInvalidationListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query plan tests for the order listing queries in OrderRepository.
+ * Runs the Flyway migrations against a PostgreSQL container, loads a skewed data set
+ * (few open orders, many delivered ones, two line items each) and checks that each
+ * query is answered from its index instead of a sequential scan. Also runs the native
+ * conditional status update against the same data. Skipped when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({PrincipalCache.class, UserCacheInvalidationListener.class})
+class OrderRepositoryQueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final Timestamp FROM = Timestamp.valueOf(LocalDateTime.of(2024, 1, 10, 0, 0));
+    private static final Timestamp TO = Timestamp.valueOf(LocalDateTime.of(2024, 1, 12, 0, 0));
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 2, 1, 12, 30, 15);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private String customerName;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+            INSERT INTO orders (id, customer_name, total_amount, status, created_at, updated_at, version)
+            SELECT g,
+                   'Customer ' || substr(md5((g % 5000)::text), 1, 12),
+                   (g % 500) + 0.99,
+                   CASE WHEN g % 100 = 0 THEN 'PENDING' WHEN g % 100 = 1 THEN 'CONFIRMED' ELSE 'DELIVERED' END,
+                   timestamp '2024-01-01' + g * interval '1 minute',
+                   timestamp '2024-01-01' + g * interval '1 minute',
+                   0
+            FROM generate_series(1, 50000) g
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO order_items (id, order_id, sku, product_name, quantity, unit_price)
+            SELECT g * 2 + i, g, 'SKU-' || ((g * 2 + i) % 20000), 'Product', 1, 9.99
+            FROM generate_series(1, 50000) g, generate_series(0, 1) i
+            """);
+        jdbcTemplate.execute("ANALYZE orders");
+        jdbcTemplate.execute("ANALYZE order_items");
+        customerName = jdbcTemplate.queryForObject("SELECT customer_name FROM orders WHERE id = 4242", String.class);
+    }
+
+    /**
+     * Test findByStatus reads the status index
+     */
+    @Test
+    void findByStatus_ShouldUseStatusIndex() {
+        // Act
+        String plan = explain("SELECT * FROM orders WHERE status = ?", "PENDING");
+
+        // Assert
+        assertIndexUsed(plan, "idx_orders_status_");
+    }
+
+    /**
+     * Test findByStatusAndCreatedAtBetween reads the (status, created_at) index
+     */
+    @Test
+    void findByStatusAndCreatedAtBetween_ShouldUseStatusCreatedAtIndex() {
+        // Act
+        String plan = explain("SELECT * FROM orders WHERE status = ? AND created_at BETWEEN ? AND ?",
+            "PENDING", FROM, TO);
+
+        // Assert
+        assertIndexUsed(plan, "idx_orders_status_created_at");
+    }
+
+    /**
+     * Test findOrdersByStatusAndMinAmount reads the (status, total_amount) index
+     */
+    @Test
+    void findOrdersByStatusAndMinAmount_ShouldUseStatusAmountIndex() {
+        // Act
+        String plan = explain("SELECT * FROM orders WHERE status = ? AND total_amount >= ?", "PENDING", 450);
+
+        // Assert
+        assertIndexUsed(plan, "idx_orders_status_");
+    }
+
+    /**
+     * Test keyset pages by status are read in index order without sorting
+     */
+    @Test
+    void findNextPageByStatus_ShouldScanIndexInOrder() {
+        // Act
+        String plan = explain("SELECT * FROM orders WHERE status = ? AND (created_at, id) > (?, ?) "
+            + "ORDER BY created_at, id LIMIT 50", "PENDING", FROM, 14400L);
+
+        // Assert
+        assertIndexUsed(plan, "idx_orders_status_created_at");
+        assertFalse(plan.contains("Sort"), plan);
+    }
+
+    /**
+     * Test keyset pages by customer are read in index order without sorting
+     */
+    @Test
+    void findFirstPageByCustomer_ShouldScanIndexInOrder() {
+        // Act
+        String plan = explain("SELECT * FROM orders WHERE customer_name = ? ORDER BY created_at, id LIMIT 50",
+            customerName);
+
+        // Assert
+        assertIndexUsed(plan, "idx_orders_customer_created_at");
+        assertFalse(plan.contains("Sort"), plan);
+    }
+
+    /**
+     * Test case-insensitive substring search reads the trigram index
+     */
+    @Test
+    void findByCustomerNameContainingIgnoreCase_ShouldUseTrigramIndex() {
+        // Arrange
+        String fragment = customerName.substring(customerName.length() - 8).toUpperCase();
+
+        // Act (Hibernate renders the JPQL concat() as ||)
+        String plan = explain("SELECT * FROM orders WHERE lower(customer_name) LIKE lower('%' || ?::text || '%')",
+            fragment);
+
+        // Assert
+        assertIndexUsed(plan, "idx_orders_customer_name_trgm");
+    }
+
+    /**
+     * Test pages by SKU find the orders through the (sku, order_id) index
+     */
+    @Test
+    void findFirstPageBySku_ShouldUseSkuIndex() {
+        // Act
+        String plan = explain("SELECT o.* FROM orders o WHERE EXISTS "
+            + "(SELECT 1 FROM order_items i WHERE i.order_id = o.id AND i.sku = ?) "
+            + "ORDER BY o.created_at, o.id LIMIT 50", "SKU-4242");
+
+        // Assert
+        assertIndexUsed(plan, "idx_order_items_sku");
+        assertFalse(plan.contains("Seq Scan on order_items"), plan);
+    }
+
+    /**
+     * Test an allowed transition returns the updated row with the next version
+     */
+    @Test
+    void updateStatus_WhenPreviousStatusAllowed_ShouldReturnUpdatedOrder() {
+        // Arrange (order 4200 is PENDING)
+        OrderStatus target = OrderStatus.CONFIRMED;
+
+        // Act
+        Optional<Order> updated = orderRepository.updateStatus(4200L, target.name(),
+            target.allowedPreviousNames(), UPDATED_AT);
+
+        // Assert
+        assertTrue(updated.isPresent());
+        assertEquals(4200L, updated.get().getId());
+        assertEquals(OrderStatus.CONFIRMED, updated.get().getStatus());
+        assertEquals(1L, updated.get().getVersion());
+        assertEquals(UPDATED_AT, updated.get().getUpdatedAt());
+        assertEquals("CONFIRMED", statusOf(4200L));
+    }
+
+    /**
+     * Test a disallowed previous status returns empty and leaves the row unchanged
+     */
+    @Test
+    void updateStatus_WhenPreviousStatusNotAllowed_ShouldLeaveRowUnchanged() {
+        // Arrange (order 4242 is DELIVERED)
+        OrderStatus target = OrderStatus.CONFIRMED;
+
+        // Act
+        Optional<Order> updated = orderRepository.updateStatus(4242L, target.name(),
+            target.allowedPreviousNames(), UPDATED_AT);
+
+        // Assert
+        assertTrue(updated.isEmpty());
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT status, version, updated_at FROM orders WHERE id = 4242");
+        assertEquals("DELIVERED", row.get("status"));
+        assertEquals(0L, ((Number) row.get("version")).longValue());
+        assertNotEquals(Timestamp.valueOf(UPDATED_AT), row.get("updated_at"));
+    }
+
+    /**
+     * Test an unknown order ID returns empty
+     */
+    @Test
+    void updateStatus_WhenOrderMissing_ShouldReturnEmpty() {
+        // Act
+        Optional<Order> updated = orderRepository.updateStatus(999_999L, OrderStatus.CONFIRMED.name(),
+            OrderStatus.CONFIRMED.allowedPreviousNames(), UPDATED_AT);
+
+        // Assert
+        assertTrue(updated.isEmpty());
+    }
+
+    private String statusOf(long id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, id);
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+
+    private static void assertIndexUsed(String plan, String index) {
+        assertFalse(plan.contains("Seq Scan on orders"), plan);
+        assertTrue(plan.contains(index), plan);
+    }
+}
@@ -0,0 +1,95 @@
+package org.orderpulse.orderpulsebackend.search;
+
+import org.junit.jupiter.api.Test;
+import org.orderpulse.orderpulsebackend.dto.OrderSearchRequest;
+import org.orderpulse.orderpulsebackend.dto.SearchPage;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the in-process order search index.
+ */
+class InMemoryOrderSearchIndexTest {
+
+    private final InMemoryOrderSearchIndex index = new InMemoryOrderSearchIndex();
+
+    /**
+     * Test criteria are combined and results are ordered newest first
+     */
+    @Test
+    void search_ShouldCombineCriteria() {
+        // Arrange
+        index.save(List.of(
+            document(1L, "John Doe", "Extra cheese", OrderStatus.PENDING, 25.0, 0L),
+            document(2L, "Jane Doe", "Extra cheese please", OrderStatus.PENDING, 40.0, 0L),
+            document(3L, "John Smith", "No onions", OrderStatus.PENDING, 30.0, 0L),
+            document(4L, "John Doe", "Extra cheese", OrderStatus.DELIVERED, 30.0, 0L)));
+
+        // Act
+        SearchPage<OrderDocument> page = index.search(OrderSearchRequest.builder()
+            .customer("doe")
+            .description("CHEESE extra")
+            .status(OrderStatus.PENDING)
+            .minAmount(new BigDecimal("20"))
+            .maxAmount(new BigDecimal("50"))
+            .build());
+
+        // Assert
+        assertEquals(List.of(2L, 1L), page.getItems().stream().map(OrderDocument::getId).toList());
+        assertEquals(2, page.getTotalHits());
+    }
+
+    /**
+     * Test an older version never replaces a newer document
+     */
+    @Test
+    void save_ShouldIgnoreStaleVersions() {
+        // Arrange
+        index.save(List.of(document(1L, "John Doe", null, OrderStatus.CONFIRMED, 10.0, 2L)));
+
+        // Act
+        index.save(List.of(document(1L, "John Doe", null, OrderStatus.PENDING, 10.0, 1L)));
+
+        // Assert
+        assertEquals(OrderStatus.CONFIRMED,
+            index.search(OrderSearchRequest.builder().build()).getItems().get(0).getStatus());
+    }
+
+    /**
+     * Test a rebuild replaces the index and keeps live writes made while it runs
+     */
+    @Test
+    void rebuild_ShouldReplaceIndexAndKeepLiveWrites() {
+        // Arrange
+        index.save(List.of(document(1L, "Stale Order", null, OrderStatus.PENDING, 10.0, 0L)));
+        OrderSearchIndex.Rebuild rebuild = index.beginRebuild();
+        rebuild.save(List.of(document(2L, "John Doe", null, OrderStatus.PENDING, 10.0, 0L)));
+        index.save(List.of(document(3L, "Jane Doe", null, OrderStatus.PENDING, 10.0, 0L)));
+
+        // Act
+        rebuild.commit();
+
+        // Assert
+        List<Long> ids = index.search(OrderSearchRequest.builder().build()).getItems().stream()
+            .map(OrderDocument::getId).toList();
+        assertEquals(List.of(3L, 2L), ids);
+    }
+
+    private static OrderDocument document(Long id, String customer, String description,
+                                          OrderStatus status, double amount, Long version) {
+        return OrderDocument.builder()
+            .id(id)
+            .customerName(customer)
+            .description(description)
+            .status(status)
+            .totalAmount(amount)
+            .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(id))
+            .version(version)
+            .build();
+    }
+}
@@ -0,0 +1,69 @@
+package org.orderpulse.orderpulsebackend.search;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orderpulse.orderpulsebackend.config.KafkaTopicConfig;
+import org.orderpulse.orderpulsebackend.dto.OrderSummary;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.orderpulse.orderpulsebackend.event.OrderEventType;
+import org.orderpulse.orderpulsebackend.repository.OrderRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderIndexer.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderIndexerTest {
+
+    @Mock
+    private OrderSearchIndex orderSearchIndex;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private OrderIndexer orderIndexer;
+
+    /**
+     * Test a batch loads each changed order once and removes deleted or vanished orders
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void onOrderEvents_ShouldIndexBatchInBulk() {
+        // Arrange
+        OrderSummary order = new OrderSummary(1L, "John Doe", null, null, null, null, null, 1L);
+        when(orderRepository.findSummariesByIdIn(List.of(1L, 3L))).thenReturn(List.of(order));
+
+        // Act
+        orderIndexer.onOrderEvents(List.of(
+            record(OrderEventType.CREATE, 1L),
+            record(OrderEventType.UPDATE, 1L),
+            record(OrderEventType.UPDATE, 2L),
+            record(OrderEventType.DELETE, 2L),
+            record(OrderEventType.CREATE, 3L)));
+
+        // Assert
+        ArgumentCaptor<List<OrderDocument>> saved = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Collection<Long>> deleted = ArgumentCaptor.forClass(Collection.class);
+        verify(orderSearchIndex).save(saved.capture());
+        verify(orderSearchIndex).delete(deleted.capture());
+        assertEquals(List.of(1L), saved.getValue().stream().map(OrderDocument::getId).toList());
+        assertEquals(Set.of(2L, 3L), Set.copyOf(deleted.getValue()));
+    }
+
+    private static ConsumerRecord<String, OrderEvent> record(OrderEventType type, Long orderId) {
+        OrderEvent event = OrderEvent.builder().type(type).orderId(orderId).build();
+        return new ConsumerRecord<>(KafkaTopicConfig.ORDER_TOPIC, 0, 0L, String.valueOf(orderId), event);
+    }
+}
@@ -0,0 +1,66 @@
+package org.orderpulse.orderpulsebackend.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PrincipalCache.
+ */
+class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+    private UserDetails alice;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(5));
+        alice = User.withUsername("alice").password("secret").roles("USER").build();
+    }
+
+    /**
+     * Test a cached token returns its principal
+     */
+    @Test
+    void get_ShouldReturnCachedPrincipal() {
+        // Arrange
+        principalCache.put("token-a", alice, Instant.now().plusSeconds(60));
+
+        // Act & Assert
+        assertSame(alice, principalCache.get("token-a"));
+        assertNull(principalCache.get("token-b"));
+    }
+
+    /**
+     * Test a token past its expiry is never served from the cache
+     */
+    @Test
+    void get_ShouldIgnoreExpiredToken() {
+        // Arrange
+        principalCache.put("token-a", alice, Instant.now().minusSeconds(1));
+
+        // Act & Assert
+        assertNull(principalCache.get("token-a"));
+    }
+
+    /**
+     * Test invalidation drops every cached principal
+     */
+    @Test
+    void invalidateAll_ShouldDropCachedPrincipals() {
+        // Arrange
+        principalCache.put("token-a", alice, Instant.now().plusSeconds(60));
+
+        // Act
+        principalCache.invalidateAll();
+
+        // Assert
+        assertNull(principalCache.get("token-a"));
+    }
+}
@@ -0,0 +1,103 @@
+package org.orderpulse.orderpulsebackend.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orderpulse.orderpulsebackend.entity.User;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserCacheInvalidationListener.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserCacheInvalidationListenerTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(5));
+        UserDetails alice = org.springframework.security.core.userdetails.User
+            .withUsername("alice").password("secret").roles("USER").build();
+        principalCache.put("token-a", alice, Instant.now().plusSeconds(60));
+    }
+
+    /**
+     * Test a user change clears the local cache and tells the other instances to clear theirs
+     */
+    @Test
+    void onUserChanged_InRedisMode_ShouldClearLocallyAndBroadcast() {
+        // Arrange
+        provideTemplate();
+        UserCacheInvalidationListener listener =
+            new UserCacheInvalidationListener(principalCache, redisTemplateProvider, "redis");
+
+        // Act
+        listener.onUserChanged(new User());
+
+        // Assert
+        assertNull(principalCache.get("token-a"));
+        verify(redisTemplate).convertAndSend(PrincipalCache.INVALIDATION_CHANNEL, PrincipalCache.INVALIDATE_ALL);
+    }
+
+    /**
+     * Test nothing is published in local cache mode
+     */
+    @Test
+    void onUserChanged_InLocalMode_ShouldOnlyClearLocally() {
+        // Arrange
+        UserCacheInvalidationListener listener =
+            new UserCacheInvalidationListener(principalCache, redisTemplateProvider, "local");
+
+        // Act
+        listener.onUserChanged(new User());
+
+        // Assert
+        assertNull(principalCache.get("token-a"));
+        verifyNoInteractions(redisTemplateProvider);
+    }
+
+    /**
+     * Test a failed broadcast does not fail the user change
+     */
+    @Test
+    void onUserChanged_WhenBroadcastFails_ShouldStillClearLocally() {
+        // Arrange
+        provideTemplate();
+        when(redisTemplate.convertAndSend(any(), any()))
+            .thenThrow(new RedisConnectionFailureException("Redis unavailable"));
+        UserCacheInvalidationListener listener =
+            new UserCacheInvalidationListener(principalCache, redisTemplateProvider, "redis");
+
+        // Act & Assert
+        assertDoesNotThrow(() -> listener.onUserChanged(new User()));
+        assertNull(principalCache.get("token-a"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void provideTemplate() {
+        doAnswer(invocation -> {
+            ((Consumer<StringRedisTemplate>) invocation.getArgument(0)).accept(redisTemplate);
+            return null;
+        }).when(redisTemplateProvider).ifAvailable(any());
+    }
+}
@@ -0,0 +1,82 @@
+package org.orderpulse.orderpulsebackend.service;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JwtService.
+ */
+class JwtServiceTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final JwtService jwtService = new JwtService(SECRET, 60_000);
+    private final UserDetails alice = User.withUsername("alice").password("secret").roles("ADMIN").build();
+
+    /**
+     * Test verify returns subject, expiry and authorities from a generated token
+     */
+    @Test
+    void verify_ShouldReturnSubjectExpiryAndAuthorities() {
+        // Arrange
+        String token = jwtService.generateToken(alice);
+
+        // Act
+        JwtService.VerifiedToken verified = jwtService.verify(token);
+
+        // Assert
+        assertEquals("alice", verified.subject());
+        assertTrue(verified.expiresAt().isAfter(Instant.now()));
+        assertEquals("ROLE_ADMIN", verified.authorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .findFirst()
+            .orElseThrow());
+    }
+
+    /**
+     * Test expired tokens are rejected
+     */
+    @Test
+    void verify_ShouldRejectExpiredToken() {
+        // Arrange
+        String token = new JwtService(SECRET, -1_000).generateToken(alice);
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.verify(token));
+        assertFalse(jwtService.isTokenValid(token, alice));
+    }
+
+    /**
+     * Test tokens with a modified payload are rejected
+     */
+    @Test
+    void verify_ShouldRejectTamperedToken() {
+        // Arrange
+        String[] parts = jwtService.generateToken(alice).split("\\.");
+        String forged = parts[0] + "." + parts[1].substring(0, parts[1].length() - 2) + "xx." + parts[2];
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.verify(forged));
+    }
+
+    /**
+     * Test a token is only valid for the user it was issued to
+     */
+    @Test
+    void isTokenValid_ShouldMatchSubject() {
+        // Arrange
+        String token = jwtService.generateToken(alice);
+        UserDetails bob = User.withUsername("bob").password("secret").roles("USER").build();
+
+        // Act & Assert
+        assertTrue(jwtService.isTokenValid(token, alice));
+        assertFalse(jwtService.isTokenValid(token, bob));
+    }
+}
@@ -0,0 +1,97 @@
+package org.orderpulse.orderpulsebackend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orderpulse.orderpulsebackend.config.CacheConfig;
+import org.orderpulse.orderpulsebackend.entity.Order;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OrderCacheService.
+ * Uses the in-process cache manager as a stand-in for Redis.
+ */
+class OrderCacheServiceTest {
+
+    private Cache ordersCache;
+    private OrderCacheService orderCacheService;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.ORDERS_CACHE);
+        ordersCache = cacheManager.getCache(CacheConfig.ORDERS_CACHE);
+        orderCacheService = new OrderCacheService(cacheManager);
+    }
+
+    /**
+     * Test an event with a newer version evicts the cached order
+     */
+    @Test
+    void evictIfOlder_ShouldEvictOlderCachedVersion() {
+        // Arrange
+        ordersCache.put(1L, order(1L, 1L, OrderStatus.PENDING));
+
+        // Act
+        orderCacheService.evictIfOlder(1L, 2L);
+
+        // Assert
+        assertNull(ordersCache.get(1L));
+    }
+
+    /**
+     * Test a late event never evicts a fresher cached order
+     */
+    @Test
+    void evictIfOlder_ShouldKeepFresherCachedVersion() {
+        // Arrange
+        ordersCache.put(1L, order(1L, 3L, OrderStatus.READY));
+
+        // Act
+        orderCacheService.evictIfOlder(1L, 2L);
+        orderCacheService.evictIfOlder(1L, 3L);
+
+        // Assert
+        assertEquals(OrderStatus.READY, ordersCache.get(1L, Order.class).getStatus());
+    }
+
+    /**
+     * Test an event without a version evicts unconditionally
+     */
+    @Test
+    void evictIfOlder_ShouldEvictWhenVersionUnknown() {
+        // Arrange
+        ordersCache.put(1L, order(1L, 3L, OrderStatus.READY));
+
+        // Act
+        orderCacheService.evictIfOlder(1L, null);
+
+        // Assert
+        assertNull(ordersCache.get(1L));
+    }
+
+    /**
+     * Test eviction removes the cached order
+     */
+    @Test
+    void evict_ShouldRemoveEntry() {
+        // Arrange
+        ordersCache.put(1L, order(1L, 1L, OrderStatus.PENDING));
+
+        // Act
+        orderCacheService.evict(1L);
+
+        // Assert
+        assertNull(ordersCache.get(1L));
+    }
+
+    private static Order order(Long id, Long version, OrderStatus status) {
+        Order order = new Order();
+        order.setId(id);
+        order.setVersion(version);
+        order.setStatus(status);
+        return order;
+    }
+}
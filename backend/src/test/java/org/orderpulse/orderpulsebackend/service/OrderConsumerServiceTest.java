@@ -0,0 +1,216 @@
+package org.orderpulse.orderpulsebackend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orderpulse.orderpulsebackend.config.KafkaTopicConfig;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.orderpulse.orderpulsebackend.event.OrderEventType;
+import org.orderpulse.orderpulsebackend.kafka.KeyOrderedExecutor;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderConsumerService record and batch handling.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderConsumerServiceTest {
+
+    @Mock
+    private OrderCacheService orderCacheService;
+
+    @Mock
+    private KeyOrderedExecutor keyOrderedExecutor;
+
+    @Mock
+    private ConsumerRecordRecoverer deadLetterRecoverer;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private OrderConsumerService orderConsumerService;
+
+    /**
+     * Test only the latest update per order survives collapsing
+     */
+    @Test
+    void collapse_ShouldKeepLatestUpdatePerOrder() {
+        // Arrange
+        OrderEvent first = event(OrderEventType.UPDATE, 1L, 2L);
+        OrderEvent other = event(OrderEventType.UPDATE, 2L, 2L);
+        OrderEvent latest = event(OrderEventType.UPDATE, 1L, 3L);
+
+        // Act
+        Map<OrderEventType, List<OrderEvent>> grouped =
+            orderConsumerService.collapse(List.of(first, other, latest));
+
+        // Assert
+        assertEquals(List.of(other, latest), grouped.get(OrderEventType.UPDATE));
+        assertTrue(grouped.get(OrderEventType.CREATE).isEmpty());
+    }
+
+    /**
+     * Test a delete supersedes earlier updates of the same order
+     */
+    @Test
+    void collapse_ShouldDropUpdatesBeforeDelete() {
+        // Arrange
+        OrderEvent create = event(OrderEventType.CREATE, 1L, 1L);
+        OrderEvent update = event(OrderEventType.UPDATE, 1L, 2L);
+        OrderEvent delete = event(OrderEventType.DELETE, 1L, 2L);
+
+        // Act
+        Map<OrderEventType, List<OrderEvent>> grouped =
+            orderConsumerService.collapse(List.of(create, update, delete));
+
+        // Assert
+        assertEquals(List.of(create), grouped.get(OrderEventType.CREATE));
+        assertTrue(grouped.get(OrderEventType.UPDATE).isEmpty());
+        assertEquals(List.of(delete), grouped.get(OrderEventType.DELETE));
+    }
+
+    /**
+     * Test a batch evicts the cache once per order and skips undeserializable records
+     */
+    @Test
+    void consumeOrderEvents_ShouldApplyCollapsedBatch() {
+        // Arrange
+        List<ConsumerRecord<String, OrderEvent>> records = List.of(
+            record(event(OrderEventType.UPDATE, 1L, 2L)),
+            record(event(OrderEventType.UPDATE, 1L, 3L)),
+            record(event(OrderEventType.DELETE, 2L, 1L)),
+            record(null));
+
+        // Act
+        orderConsumerService.consumeOrderEvents(records);
+
+        // Assert
+        verify(orderCacheService, times(1)).evictIfOlder(anyLong(), anyLong());
+        verify(orderCacheService).evictIfOlder(1L, 3L);
+        verify(orderCacheService).evict(2L);
+        verifyNoInteractions(keyOrderedExecutor);
+    }
+
+    /**
+     * Test processing time is recorded per event type and end-to-end latency per timestamped event
+     */
+    @Test
+    void consumeOrderEvents_ShouldRecordProcessingAndEndToEndLatency() {
+        // Arrange
+        OrderEvent update = event(OrderEventType.UPDATE, 1L, 2L);
+        update.setOccurredAt(Instant.now().minusSeconds(2));
+
+        // Act
+        orderConsumerService.consumeOrderEvents(List.of(record(update), record(event(OrderEventType.DELETE, 2L, 1L))));
+
+        // Assert
+        assertEquals(1, meterRegistry.get("orderpulse.kafka.consumer.processing")
+            .tags("type", "UPDATE", "mode", "batch").timer().count());
+        assertEquals(0, meterRegistry.get("orderpulse.kafka.consumer.processing")
+            .tags("type", "CREATE", "mode", "batch").timer().count());
+        assertEquals(1, meterRegistry.get("orderpulse.kafka.consumer.end-to-end")
+            .tag("type", "UPDATE").timer().count());
+        assertTrue(meterRegistry.get("orderpulse.kafka.consumer.end-to-end")
+            .tag("type", "UPDATE").timer().totalTime(TimeUnit.SECONDS) >= 2);
+        assertEquals(0, meterRegistry.get("orderpulse.kafka.consumer.end-to-end")
+            .tag("type", "DELETE").timer().count());
+    }
+
+    /**
+     * Test a processed record is acknowledged without dead-lettering
+     */
+    @Test
+    void consumeOrderEvent_WhenProcessed_ShouldAcknowledge() {
+        // Arrange
+        runOnCallerThread();
+
+        // Act
+        orderConsumerService.consumeOrderEvent(record(event(OrderEventType.UPDATE, 1L, 2L)), acknowledgment);
+
+        // Assert
+        verify(orderCacheService).evictIfOlder(1L, 2L);
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(deadLetterRecoverer);
+    }
+
+    /**
+     * Test a record whose processing fails is dead-lettered before it is acknowledged
+     */
+    @Test
+    void consumeOrderEvent_WhenProcessingFails_ShouldDeadLetterThenAcknowledge() {
+        // Arrange
+        runOnCallerThread();
+        IllegalStateException failure = new IllegalStateException("cache unavailable");
+        doThrow(failure).when(orderCacheService).evictIfOlder(1L, 2L);
+        ConsumerRecord<String, OrderEvent> record = record(event(OrderEventType.UPDATE, 1L, 2L));
+
+        // Act
+        orderConsumerService.consumeOrderEvent(record, acknowledgment);
+
+        // Assert
+        var inOrder = inOrder(deadLetterRecoverer, acknowledgment);
+        inOrder.verify(deadLetterRecoverer).accept(same(record), same(failure));
+        inOrder.verify(acknowledgment).acknowledge();
+    }
+
+    /**
+     * Test a record that can be neither processed nor dead-lettered is left unacknowledged
+     */
+    @Test
+    void consumeOrderEvent_WhenDeadLetterFails_ShouldNotAcknowledge() {
+        // Arrange
+        runOnCallerThread();
+        doThrow(new IllegalStateException("cache unavailable")).when(orderCacheService).evict(1L);
+        doThrow(new IllegalStateException("broker unavailable")).when(deadLetterRecoverer).accept(any(), any());
+
+        // Act
+        orderConsumerService.consumeOrderEvent(record(event(OrderEventType.DELETE, 1L, 2L)), acknowledgment);
+
+        // Assert
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    /**
+     * Makes the worker pool run each task immediately on the calling thread.
+     */
+    private void runOnCallerThread() {
+        when(keyOrderedExecutor.submit(any(), any(Runnable.class)))
+            .thenAnswer(invocation -> CompletableFuture.runAsync(invocation.getArgument(1), Runnable::run));
+    }
+
+    private static ConsumerRecord<String, OrderEvent> record(OrderEvent event) {
+        // A null value is what ErrorHandlingDeserializer delivers for a malformed record
+        return new ConsumerRecord<>(KafkaTopicConfig.ORDER_TOPIC, 0, 0L,
+            event == null ? null : String.valueOf(event.getOrderId()), event);
+    }
+
+    private static OrderEvent event(OrderEventType type, Long orderId, Long version) {
+        return OrderEvent.builder()
+            .type(type)
+            .orderId(orderId)
+            .orderVersion(version)
+            .build();
+    }
+}
@@ -1,31 +1,57 @@
 package org.orderpulse.orderpulsebackend.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.orderpulse.orderpulsebackend.dto.CursorPage;
+import org.orderpulse.orderpulsebackend.dto.OrderSummary;
+import org.orderpulse.orderpulsebackend.dto.OrderCursor;
 import org.orderpulse.orderpulsebackend.entity.Order;
 import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.orderpulse.orderpulsebackend.exception.InvalidStatusTransitionException;
 import org.orderpulse.orderpulsebackend.exception.OrderNotFoundException;
-import org.orderpulse.orderpulsebackend.kafka.OrderProducer;
+import org.orderpulse.orderpulsebackend.event.OrderEventType;
+import org.orderpulse.orderpulsebackend.kafka.OrderEventOutbox;
 import org.orderpulse.orderpulsebackend.repository.OrderRepository;
 import org.orderpulse.orderpulsebackend.service.impl.OrderServiceImpl;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for OrderServiceImpl class.
  * Tests cover all major functionality including CRUD operations,
- * business logic, and integration with Kafka producer.
+ * business logic, and integration with the event outbox.
  */
 @ExtendWith(MockitoExtension.class)
 class OrderServiceImplTest {
@@ -34,7 +60,13 @@ class OrderServiceImplTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private OrderProducer orderProducer;
+    private OrderEventOutbox orderEventOutbox;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private OrderServiceImpl orderService;
@@ -48,16 +80,17 @@ class OrderServiceImplTest {
         testOrder.setCustomerName("Test Customer");
         testOrder.setTotalAmount(new BigDecimal("100.00"));
         testOrder.setStatus(OrderStatus.PENDING);
+        ReflectionTestUtils.setField(orderService, "insertBatchSize", 2);
     }
 
     /**
-     * Test successful order creation with proper Kafka event publishing
+     * Test successful order creation with the creation event recorded in the outbox
      */
     @Test
     void createOrder_ShouldSaveAndPublishEvent() {
         // Arrange
-        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
-        doNothing().when(orderProducer).sendMessage(any(Order.class));
+        when(orderRepository.saveAndFlush(any(Order.class))).thenReturn(testOrder);
+        doNothing().when(orderEventOutbox).enqueue(any(Order.class), eq(OrderEventType.CREATE));
 
         // Act
         Order createdOrder = orderService.createOrder(testOrder);
@@ -66,8 +99,30 @@ class OrderServiceImplTest {
         assertNotNull(createdOrder);
         assertEquals(testOrder.getCustomerName(), createdOrder.getCustomerName());
         assertEquals(OrderStatus.PENDING, createdOrder.getStatus());
-        verify(orderRepository).save(any(Order.class));
-        verify(orderProducer).sendMessage(any(Order.class));
+        verify(orderRepository).saveAndFlush(any(Order.class));
+        verify(orderEventOutbox).enqueue(any(Order.class), eq(OrderEventType.CREATE));
+        assertEquals(1, meterRegistry.get("orderpulse.orders.db.save").tag("operation", "create").timer().count());
+    }
+
+    /**
+     * Test bulk creation persists in flushed chunks and records one event batch
+     */
+    @Test
+    void createOrders_ShouldSaveInChunksAndPublishEvents() {
+        // Arrange
+        List<Order> orders = Arrays.asList(new Order(), new Order(), new Order());
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<Order> createdOrders = orderService.createOrders(orders);
+
+        // Assert
+        assertEquals(3, createdOrders.size());
+        assertTrue(createdOrders.stream().allMatch(o -> o.getStatus() == OrderStatus.PENDING));
+        verify(orderRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(orderEventOutbox).enqueueAll(createdOrders, OrderEventType.CREATE);
     }
 
     /**
@@ -76,7 +131,7 @@ class OrderServiceImplTest {
     @Test
     void getOrderById_ShouldReturnOrder() {
         // Arrange
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(testOrder));
 
         // Act
         Order foundOrder = orderService.getOrderById(1L);
@@ -84,7 +139,7 @@ class OrderServiceImplTest {
         // Assert
         assertNotNull(foundOrder);
         assertEquals(testOrder.getId(), foundOrder.getId());
-        verify(orderRepository).findById(1L);
+        verify(orderRepository).findWithItemsById(1L);
     }
 
     /**
@@ -93,54 +148,98 @@ class OrderServiceImplTest {
     @Test
     void getOrderById_ShouldThrowException() {
         // Arrange
-        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithItemsById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(OrderNotFoundException.class, () -> {
             orderService.getOrderById(999L);
         });
-        verify(orderRepository).findById(999L);
+        verify(orderRepository).findWithItemsById(999L);
     }
 
     /**
-     * Test successful order status update with Kafka event publishing
+     * Test successful order status update with the update event recorded in the outbox
      */
     @Test
     void updateOrderStatus_ShouldUpdateAndPublishEvent() {
         // Arrange
         Order updatedOrder = new Order();
         updatedOrder.setId(1L);
-        updatedOrder.setStatus(OrderStatus.COMPLETED);
+        updatedOrder.setStatus(OrderStatus.CONFIRMED);
         
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-        when(orderRepository.save(any(Order.class))).thenReturn(updatedOrder);
+        when(orderRepository.updateStatus(eq(1L), eq("CONFIRMED"), eq(List.of("PENDING")), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(updatedOrder));
 
         // Act
-        Order result = orderService.updateOrderStatus(1L, OrderStatus.COMPLETED);
+        Order result = orderService.updateOrderStatus(1L, OrderStatus.CONFIRMED);
 
         // Assert
-        assertEquals(OrderStatus.COMPLETED, result.getStatus());
-        verify(orderRepository).save(any(Order.class));
-        verify(orderProducer).sendMessage(any(Order.class));
+        assertEquals(OrderStatus.CONFIRMED, result.getStatus());
+        verify(orderRepository, never()).findWithItemsById(any());
+        verify(orderRepository, never()).saveAndFlush(any(Order.class));
+        verify(orderEventOutbox).enqueue(updatedOrder, OrderEventType.UPDATE);
+    }
+
+    /**
+     * Test status update of a non-existent order
+     */
+    @Test
+    void updateOrderStatus_WhenOrderMissing_ShouldThrowException() {
+        // Arrange
+        when(orderRepository.updateStatus(eq(99L), eq("CONFIRMED"), anyCollection(), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+        when(orderRepository.findStatusById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(OrderNotFoundException.class, () -> orderService.updateOrderStatus(99L, OrderStatus.CONFIRMED));
+        verify(orderEventOutbox, never()).enqueue(any(Order.class), any(OrderEventType.class));
+    }
+
+    /**
+     * Test a status change not allowed from the order's current status is rejected
+     */
+    @Test
+    void updateOrderStatus_WhenTransitionNotAllowed_ShouldThrowConflict() {
+        // Arrange
+        when(orderRepository.updateStatus(eq(1L), eq("REFUNDED"), anyCollection(), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+        when(orderRepository.findStatusById(1L)).thenReturn(Optional.of(OrderStatus.PENDING));
+
+        // Act & Assert
+        InvalidStatusTransitionException ex = assertThrows(InvalidStatusTransitionException.class,
+            () -> orderService.updateOrderStatus(1L, OrderStatus.REFUNDED));
+        assertTrue(ex.getMessage().contains("from PENDING to REFUNDED"));
+        verify(orderEventOutbox, never()).enqueue(any(Order.class), any(OrderEventType.class));
+    }
+
+    /**
+     * Test a status no other status leads to is rejected without querying the database
+     */
+    @Test
+    void updateOrderStatus_ToPending_ShouldRejectWithoutQuery() {
+        // Act & Assert
+        assertThrows(InvalidStatusTransitionException.class,
+            () -> orderService.updateOrderStatus(1L, OrderStatus.PENDING));
+        verifyNoInteractions(orderRepository, orderEventOutbox);
     }
 
     /**
-     * Test successful retrieval of orders by customer name
+     * Test successful retrieval of the first page of orders by customer name
      */
     @Test
-    void getOrdersByCustomer_ShouldReturnList() {
+    void getOrdersByCustomer_ShouldReturnFirstPage() {
         // Arrange
-        List<Order> orders = Arrays.asList(testOrder);
-        when(orderRepository.findByCustomerName("Test Customer")).thenReturn(orders);
+        List<OrderSummary> orders = Arrays.asList(summary(testOrder));
+        when(orderRepository.findFirstPageByCustomer(eq("Test Customer"), any(Pageable.class))).thenReturn(orders);
 
         // Act
-        List<Order> result = orderService.getOrdersByCustomer("Test Customer");
+        CursorPage<OrderSummary> result = orderService.getOrdersByCustomer("Test Customer", null, 10);
 
         // Assert
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
-        assertEquals("Test Customer", result.get(0).getCustomerName());
-        verify(orderRepository).findByCustomerName("Test Customer");
+        assertEquals(1, result.getItems().size());
+        assertEquals("Test Customer", result.getItems().get(0).customerName());
+        assertNull(result.getNextCursor());
+        verify(orderRepository).findFirstPageByCustomer("Test Customer", PageRequest.ofSize(11));
     }
 
     /**
@@ -149,26 +248,67 @@ class OrderServiceImplTest {
     @Test
     void getOrdersByStatus_ShouldReturnList() {
         // Arrange
-        List<Order> orders = Arrays.asList(testOrder);
-        when(orderRepository.findByStatus(OrderStatus.PENDING)).thenReturn(orders);
+        List<OrderSummary> orders = Arrays.asList(summary(testOrder));
+        when(orderRepository.findFirstPageByStatus(eq(OrderStatus.PENDING), any(Pageable.class))).thenReturn(orders);
 
         // Act
-        List<Order> result = orderService.getOrdersByStatus(OrderStatus.PENDING);
+        CursorPage<OrderSummary> result = orderService.getOrdersByStatus(OrderStatus.PENDING, null, 10);
 
         // Assert
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
-        assertEquals(OrderStatus.PENDING, result.get(0).getStatus());
-        verify(orderRepository).findByStatus(OrderStatus.PENDING);
+        assertEquals(1, result.getItems().size());
+        assertEquals(OrderStatus.PENDING, result.getItems().get(0).status());
+        assertNull(result.getNextCursor());
+        verify(orderRepository).findFirstPageByStatus(OrderStatus.PENDING, PageRequest.ofSize(11));
     }
 
     /**
-     * Test successful order deletion with Kafka event publishing
+     * Test successful retrieval of orders containing a SKU
+     */
+    @Test
+    void getOrdersBySku_ShouldReturnList() {
+        // Arrange
+        List<OrderSummary> orders = Arrays.asList(summary(testOrder));
+        when(orderRepository.findFirstPageBySku(eq("SKU-1"), any(Pageable.class))).thenReturn(orders);
+
+        // Act
+        CursorPage<OrderSummary> result = orderService.getOrdersBySku("SKU-1", null, 10);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertEquals(1L, result.getItems().get(0).id());
+        assertNull(result.getNextCursor());
+        verify(orderRepository).findFirstPageBySku("SKU-1", PageRequest.ofSize(11));
+    }
+
+    /**
+     * Test keyset pagination seeks after the cursor and returns a cursor for the next page
+     */
+    @Test
+    void getOrdersByStatus_ShouldSeekAfterCursorAndReturnNextCursor() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        OrderCursor after = new OrderCursor(createdAt, 1L);
+        testOrder.setCreatedAt(createdAt.plusMinutes(1));
+        Order extraOrder = new Order();
+        extraOrder.setId(3L);
+        when(orderRepository.findNextPageByStatus(OrderStatus.PENDING, createdAt, 1L, PageRequest.ofSize(2)))
+                .thenReturn(Arrays.asList(summary(testOrder), summary(extraOrder)));
+
+        // Act
+        CursorPage<OrderSummary> result = orderService.getOrdersByStatus(OrderStatus.PENDING, after, 1);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertEquals(OrderCursor.of(testOrder), OrderCursor.decode(result.getNextCursor()));
+    }
+
+    /**
+     * Test successful order deletion with the deletion event recorded in the outbox
      */
     @Test
     void deleteOrder_ShouldDeleteAndPublishEvent() {
         // Arrange
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(testOrder));
         doNothing().when(orderRepository).deleteById(1L);
 
         // Act
@@ -176,7 +316,7 @@ class OrderServiceImplTest {
 
         // Assert
         verify(orderRepository).deleteById(1L);
-        verify(orderProducer).sendMessage(any(Order.class));
+        verify(orderEventOutbox).enqueue(any(Order.class), eq(OrderEventType.DELETE));
     }
 
     /**
@@ -185,13 +325,79 @@ class OrderServiceImplTest {
     @Test
     void deleteOrder_ShouldThrowException() {
         // Arrange
-        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithItemsById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(OrderNotFoundException.class, () -> {
             orderService.deleteOrder(999L);
         });
         verify(orderRepository, never()).deleteById(any());
-        verify(orderProducer, never()).sendMessage(any());
+        verify(orderEventOutbox, never()).enqueue(any(), any());
+    }
+
+    /**
+     * Test the export stream is consumed and closed inside one read-only transaction
+     */
+    @Test
+    void exportOrders_ShouldConsumeAndCloseStreamInsideTransaction() {
+        // Arrange
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        OrderService transactional = transactional(transactionManager);
+        OrderSummary first = summary(testOrder);
+        OrderSummary second = new OrderSummary(2L, "Other", BigDecimal.TEN, null, OrderStatus.PENDING, null, null, 0L);
+        Runnable onClose = mock(Runnable.class);
+        when(orderRepository.streamByStatus(OrderStatus.PENDING)).thenReturn(Stream.of(first, second).onClose(onClose));
+        @SuppressWarnings("unchecked")
+        Consumer<OrderSummary> consumer = mock(Consumer.class);
+
+        // Act
+        transactional.exportOrders(OrderStatus.PENDING, consumer);
+
+        // Assert
+        var inOrder = inOrder(transactionManager, consumer, onClose);
+        inOrder.verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        inOrder.verify(consumer).accept(first);
+        inOrder.verify(consumer).accept(second);
+        inOrder.verify(onClose).run();
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    /**
+     * Test a failing consumer still closes the stream before the transaction rolls back
+     */
+    @Test
+    void exportOrders_WhenConsumerFails_ShouldCloseStreamBeforeRollback() {
+        // Arrange
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        OrderService transactional = transactional(transactionManager);
+        Runnable onClose = mock(Runnable.class);
+        when(orderRepository.streamAll()).thenReturn(Stream.of(summary(testOrder)).onClose(onClose));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> transactional.exportOrders(null, order -> {
+            throw new IllegalStateException("client disconnected");
+        }));
+        var inOrder = inOrder(transactionManager, onClose);
+        inOrder.verify(onClose).run();
+        inOrder.verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    /**
+     * Wraps the service in the transaction interceptor Spring would apply.
+     */
+    private OrderService transactional(PlatformTransactionManager transactionManager) {
+        ProxyFactory proxyFactory = new ProxyFactory(orderService);
+        proxyFactory.addAdvice(new TransactionInterceptor(
+            (TransactionManager) transactionManager, new AnnotationTransactionAttributeSource()));
+        return (OrderService) proxyFactory.getProxy();
+    }
+
+    private static OrderSummary summary(Order order) {
+        return new OrderSummary(order.getId(), order.getCustomerName(), order.getTotalAmount(),
+                order.getNotes(), order.getStatus(), order.getCreatedAt(), order.getUpdatedAt(),
+                order.getVersion());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package org.orderpulse.orderpulsebackend.sse;
+
+import org.junit.jupiter.api.Test;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.orderpulse.orderpulsebackend.event.OrderEventType;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OrderEventJournal and StreamPosition.
+ */
+class OrderEventJournalTest {
+
+    /**
+     * Test a stream position reads only the events after it
+     */
+    @Test
+    void read_ShouldReturnEventsAfterPosition() {
+        // Arrange
+        OrderEventJournal journal = new OrderEventJournal(10);
+        journal.start(0, 100L);
+        journal.append(0, 100L, event(1L));
+        journal.append(0, 101L, event(2L));
+        journal.append(0, 102L, event(3L));
+
+        // Act
+        List<OrderEventJournal.Entry> entries = journal.read(StreamPosition.of(Map.of(0, 100L)), 10);
+
+        // Assert
+        assertEquals(List.of(101L, 102L), entries.stream().map(OrderEventJournal.Entry::offset).toList());
+    }
+
+    /**
+     * Test positions older than the retained events are reported as not covered
+     */
+    @Test
+    void read_ShouldRejectPositionBeforeRetainedEvents() {
+        // Arrange
+        OrderEventJournal journal = new OrderEventJournal(2);
+        journal.start(0, 0L);
+        journal.append(0, 0L, event(1L));
+        journal.append(0, 1L, event(2L));
+        journal.append(0, 2L, event(3L));
+
+        // Act & Assert
+        assertNull(journal.read(StreamPosition.of(Map.of(0, -1L)), 10));
+        assertFalse(journal.covers(0, -1L));
+        assertTrue(journal.covers(0, 0L));
+        assertEquals(1, journal.read(StreamPosition.of(Map.of(0, 1L)), 10).size());
+    }
+
+    /**
+     * Test reads stop at the requested maximum and the head tracks the last offset
+     */
+    @Test
+    void read_ShouldHonourMaxAndTrackHead() {
+        // Arrange
+        OrderEventJournal journal = new OrderEventJournal(10);
+        journal.start(1, 50L);
+        for (long offset = 50; offset < 55; offset++) {
+            journal.append(1, offset, event(offset));
+        }
+
+        // Act
+        List<OrderEventJournal.Entry> entries = journal.read(StreamPosition.of(Map.of()), 3);
+
+        // Assert
+        assertEquals(3, entries.size());
+        assertEquals(Map.of(1, 54L), journal.head());
+    }
+
+    /**
+     * Test a position survives the round trip through the SSE event ID
+     */
+    @Test
+    void streamPosition_ShouldRoundTripThroughEventId() {
+        // Arrange
+        StreamPosition position = StreamPosition.of(Map.of(2, 7L, 0, 15L));
+        position.advance(1, 3L);
+        position.advance(0, 9L);
+
+        // Act
+        String id = position.encode();
+
+        // Assert
+        assertEquals("0:15,1:3,2:7", id);
+        assertEquals(position.offsets(), StreamPosition.parse(id).offsets());
+        assertNull(StreamPosition.parse("not-an-id"));
+    }
+
+    private static OrderEvent event(Long orderId) {
+        return OrderEvent.builder()
+            .type(OrderEventType.UPDATE)
+            .orderId(orderId)
+            .build();
+    }
+}
@@ -0,0 +1,129 @@
+package org.orderpulse.orderpulsebackend.sse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderStreamService subscription and flush threading.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderStreamServiceTest {
+
+    @Mock
+    private OrderEventJournal journal;
+
+    @Mock
+    private OrderEventReplayer replayer;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private OrderStreamService orderStreamService;
+
+    @BeforeEach
+    void setUp() {
+        orderStreamService = new OrderStreamService(journal, replayer, Duration.ofMinutes(30), 500,
+            Duration.ofMinutes(1), Duration.ofMillis(500), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        orderStreamService.shutdown();
+    }
+
+    /**
+     * Test a reconnect returns its emitter before the Kafka replay finishes and joins the flush afterwards
+     */
+    @Test
+    void subscribe_WhenReplayNeeded_ShouldReturnBeforeReplayCompletes() throws Exception {
+        // Arrange
+        when(journal.covers(anyInt(), anyLong())).thenReturn(false);
+        CountDownLatch replaying = new CountDownLatch(1);
+        when(replayer.replay(Map.of(0, 5L))).thenAnswer(invocation -> {
+            replaying.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new OrderEventReplayer.Replay(List.of(), Map.of(0, 7L));
+        });
+
+        // Act
+        SseEmitter emitter = orderStreamService.subscribe(null, null, "0:5");
+
+        // Assert
+        assertNotNull(emitter);
+        assertTrue(replaying.await(5, TimeUnit.SECONDS));
+        assertEquals(0, orderStreamService.getSubscriptionCount());
+        release.countDown();
+        awaitSubscriptionCount(1);
+    }
+
+    /**
+     * Test a stream stuck in a send does not hold up other streams and is dropped after the send timeout
+     */
+    @Test
+    void flush_WhenOneStreamStalls_ShouldServeOthersAndDropStalledStream() throws Exception {
+        // Arrange: the stream resuming at offset 5 blocks in its send, the new stream at offset 9 does not
+        when(journal.covers(anyInt(), anyLong())).thenReturn(true);
+        when(journal.head()).thenReturn(Map.of(0, 9L));
+        CountDownLatch stalled = new CountDownLatch(1);
+        when(journal.read(argThat(position -> position != null && position.get(0) == 5L), anyInt()))
+            .thenAnswer(invocation -> {
+                stalled.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return List.of();
+            });
+        AtomicInteger otherReads = new AtomicInteger();
+        when(journal.read(argThat(position -> position != null && position.get(0) == 9L), anyInt()))
+            .thenAnswer(invocation -> {
+                otherReads.incrementAndGet();
+                return List.of();
+            });
+        orderStreamService.subscribe(null, null, "0:5");
+        orderStreamService.subscribe(null, null, null);
+        awaitSubscriptionCount(2);
+
+        // Act
+        orderStreamService.flush();
+        assertTrue(stalled.await(5, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+        while (otherReads.get() < 3 && System.nanoTime() < deadline) {
+            orderStreamService.flush();
+            Thread.sleep(5);
+        }
+
+        // Assert
+        assertTrue(otherReads.get() >= 3, "other stream served " + otherReads.get() + " times");
+        assertEquals(2, orderStreamService.getSubscriptionCount());
+        Thread.sleep(600);
+        orderStreamService.flush();
+        assertEquals(1, orderStreamService.getSubscriptionCount());
+        verify(journal, times(1)).read(argThat(position -> position != null && position.get(0) == 5L), anyInt());
+        verify(replayer, never()).replay(any());
+    }
+
+    private void awaitSubscriptionCount(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (orderStreamService.getSubscriptionCount() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, orderStreamService.getSubscriptionCount());
+    }
+}
@@ -0,0 +1,123 @@
+package org.orderpulse.orderpulsebackend.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.orderpulse.orderpulsebackend.dto.OrderStatusUpdate;
+import org.orderpulse.orderpulsebackend.entity.OrderStatus;
+import org.orderpulse.orderpulsebackend.event.OrderEvent;
+import org.orderpulse.orderpulsebackend.event.OrderEventType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderStatusPushService and SubscriptionIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderStatusPushServiceTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private SubscriptionIndex subscriptionIndex;
+    private OrderStatusPushService pushService;
+
+    @BeforeEach
+    void setUp() {
+        subscriptionIndex = new SubscriptionIndex();
+        pushService = new OrderStatusPushService(messagingTemplate, subscriptionIndex);
+    }
+
+    /**
+     * Test rapid updates of one order are coalesced into a single message with the latest state
+     */
+    @Test
+    void flush_ShouldSendLatestUpdateOnce() {
+        // Arrange
+        subscriptionIndex.add("session-1", "sub-1", "/topic/orders/1");
+        pushService.offer(event(OrderEventType.UPDATE, 1L, 2L, OrderStatus.CONFIRMED));
+        pushService.offer(event(OrderEventType.UPDATE, 1L, 4L, OrderStatus.IN_TRANSIT));
+        pushService.offer(event(OrderEventType.UPDATE, 1L, 3L, OrderStatus.PREPARING));
+
+        // Act
+        pushService.flush();
+        pushService.flush();
+
+        // Assert
+        ArgumentCaptor<OrderStatusUpdate> captor = ArgumentCaptor.forClass(OrderStatusUpdate.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/orders/1"), captor.capture());
+        assertEquals(4L, captor.getValue().getVersion());
+        assertEquals(OrderStatus.IN_TRANSIT, captor.getValue().getStatus());
+    }
+
+    /**
+     * Test updates are sent to customer subscribers and not to unwatched destinations
+     */
+    @Test
+    void flush_ShouldSendOnlyToSubscribedDestinations() {
+        // Arrange
+        subscriptionIndex.add("session-1", "sub-1", "/topic/customers/John Doe");
+        pushService.offer(event(OrderEventType.CREATE, 7L, 0L, OrderStatus.PENDING));
+
+        // Act
+        pushService.flush();
+
+        // Assert
+        verify(messagingTemplate).convertAndSend(eq("/topic/customers/John Doe"), any(OrderStatusUpdate.class));
+        verify(messagingTemplate, never()).convertAndSend(eq("/topic/orders/7"), any(OrderStatusUpdate.class));
+    }
+
+    /**
+     * Test events nobody is subscribed to are dropped, including after a session disconnects
+     */
+    @Test
+    void offer_ShouldDropEventsWithoutSubscribers() {
+        // Arrange
+        subscriptionIndex.add("session-1", "sub-1", "/topic/orders/1");
+        subscriptionIndex.removeSession("session-1");
+        pushService.offer(event(OrderEventType.UPDATE, 1L, 1L, OrderStatus.CONFIRMED));
+
+        // Act
+        pushService.flush();
+
+        // Assert
+        assertFalse(subscriptionIndex.hasSubscribers("/topic/orders/1"));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    /**
+     * Test a deletion is not overwritten by an update that arrives after it
+     */
+    @Test
+    void offer_ShouldKeepDeleteOverLaterUpdate() {
+        // Arrange
+        subscriptionIndex.add("session-1", "sub-1", "/topic/orders/1");
+        pushService.offer(event(OrderEventType.DELETE, 1L, 2L, OrderStatus.CANCELLED));
+        pushService.offer(event(OrderEventType.UPDATE, 1L, 3L, OrderStatus.IN_TRANSIT));
+
+        // Act
+        pushService.flush();
+
+        // Assert
+        ArgumentCaptor<OrderStatusUpdate> captor = ArgumentCaptor.forClass(OrderStatusUpdate.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/orders/1"), captor.capture());
+        assertEquals(OrderEventType.DELETE, captor.getValue().getType());
+    }
+
+    private static OrderEvent event(OrderEventType type, Long orderId, Long version, OrderStatus status) {
+        return OrderEvent.builder()
+            .type(type)
+            .orderId(orderId)
+            .orderVersion(version)
+            .status(status)
+            .customerName("John Doe")
+            .build();
+    }
+}